@@ -0,0 +1,98 @@
+package com.bank;
+
+import com.bank.enums.TransactionType;
+import com.bank.managers.AccountManager;
+import com.bank.managers.TransactionManager;
+import com.bank.time.CachedTimeSource;
+import com.bank.time.SimulatedTimeSource;
+import com.bank.time.SystemTimeSource;
+import com.bank.time.TimeSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Single-threaded, so the score is the per-posting cost of the clock read, the date conversion and the
+// posting itself. Dated postings use a date a day ahead so they stay valid against every clock.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class PostingBenchmark {
+
+    @Param({"system", "cached", "simulated"})
+    public String clock;
+
+    private TimeSource timeSource;
+    private Bank bank;
+    private LocalDateTime date;
+
+    @Setup(Level.Trial)
+    public void setUpClock() {
+        switch(clock) {
+            case "system" -> timeSource = new SystemTimeSource();
+            case "cached" -> timeSource = new CachedTimeSource(1);
+            case "simulated" -> timeSource = new SimulatedTimeSource(LocalDateTime.now());
+            default -> throw new IllegalArgumentException("Unknown clock: " + clock);
+        }
+        date = LocalDateTime.now().plusDays(1);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpBank() {
+        AccountManager accountManager = new AccountManager();
+        TransactionManager transactionManager = new TransactionManager(accountManager);
+        bank = new Bank(accountManager, transactionManager, timeSource);
+        accountManager.createAccount("1000", 1_000_000_000.0);
+        accountManager.createAccount("1001", 1_000_000_000.0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if(timeSource instanceof CachedTimeSource cached) {
+            cached.close();
+        }
+    }
+
+    @Benchmark
+    public void depositDated() {
+        bank.deposit("1000", 1.0, "description", date);
+    }
+
+    @Benchmark
+    public void depositUndated() {
+        bank.deposit("1000", 1.0, "description");
+    }
+
+    @Benchmark
+    public void transferDated() {
+        bank.transfer("1000", "1001", 1.0, "description", date);
+    }
+
+    @Benchmark
+    public void transferUndated() {
+        bank.transfer("1000", "1001", 1.0, "description");
+    }
+
+    // What reading back an undated posting's date costs, since it is derived from the instant.
+    @Benchmark
+    public LocalDateTime undatedGetDate() {
+        long now = timeSource.currentTimeMillis();
+        return new Transaction("1000", 1.0, "description", null, TransactionType.DEPOSIT,
+                TimeSource.epochSecondOf(now), TimeSource.nanoOf(now)).getDate();
+    }
+}
@@ -9,10 +9,12 @@ import java.util.Objects;
 public class Account {
 
     private final String accountNumber;
-    private Double amount;
+    private final Double openingBalance;
+    private volatile Double amount;
 
     public Account(String name, Double amount) {
         this.accountNumber = name;
+        this.openingBalance = amount;
         this.amount = amount;
         AccountValidator.selfValidate(this);
     }
@@ -21,6 +23,10 @@ public class Account {
         return amount;
     }
 
+    public Double getOpeningBalance() {
+        return openingBalance;
+    }
+
     public String getAccountNumber() {
         return accountNumber;
     }
@@ -1,82 +1,186 @@
 package com.bank;
 
 import com.bank.enums.TransactionType;
+import com.bank.listeners.PostingListener;
 import com.bank.managers.AccountManager;
 import com.bank.managers.TransactionManager;
+import com.bank.time.SystemTimeSource;
+import com.bank.time.TimeSource;
 import com.bank.validators.AccountValidator;
+import com.bank.validators.TransactionValidator;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class Bank {
 
     private final AccountManager accountManager;
     private final TransactionManager transactionManager;
+    private final TimeSource timeSource;
+    private final List<PostingListener> listeners = new CopyOnWriteArrayList<>();
 
     public Bank(AccountManager accountManager, TransactionManager transactionManager) {
+        this(accountManager, transactionManager, new SystemTimeSource());
+    }
+
+    public Bank(AccountManager accountManager, TransactionManager transactionManager, TimeSource timeSource) {
          this.accountManager = accountManager;
          this.transactionManager = transactionManager;
+         this.timeSource = timeSource;
+    }
+
+    public TimeSource getTimeSource() {
+        return timeSource;
+    }
+
+    public void addPostingListener(PostingListener listener) {
+        if(listener == null) {
+            throw new IllegalArgumentException("Posting listener cannot be null.");
+        }
+        listeners.add(listener);
+    }
+
+    public void post(Transaction transaction) {
+        if(transaction == null) {
+            throw new IllegalArgumentException("Transaction cannot be null.");
+        }
+        post(transaction, timeSource.currentTimeMillis());
+    }
+
+    private void post(Transaction transaction, long now) {
+        Account account = accountManager.getAccount(transaction.getAccountNumber());
+        List<Transaction> legs = List.of(transaction);
+
+        TransactionValidator.validateDate(transaction, now);
+        notify(listener -> listener.onPosting(legs));
+        try {
+            account.processTransaction(transaction);
+        } catch (RuntimeException e) {
+            notify(listener -> listener.onAborted(legs));
+            throw e;
+        }
+        transactionManager.setTransaction(transaction.getAccountNumber(), transaction);
+        notify(listener -> listener.onPosted(legs));
     }
 
     public void deposit(String accountNumber,
                         Double amount,
                         String description,
                         LocalDateTime date) {
+        postDeposit(new Transaction(accountNumber,
+                amount,
+                description,
+                null,
+                TransactionType.DEPOSIT,
+                date), timeSource.currentTimeMillis());
+    }
 
-        AccountValidator.selfValidate(accountManager.getAccount(accountNumber));
-
-        Transaction transaction = new Transaction(accountNumber,
-                 amount,
-                 description,
-                 null,
-                 TransactionType.DEPOSIT,
-                 date);
-
-        accountManager.getAccount(accountNumber).processTransaction(transaction);
-        transactionManager.setTransaction(accountNumber, transaction);
+    public void deposit(String accountNumber,
+                        Double amount,
+                        String description) {
+        long now = timeSource.currentTimeMillis();
+        postDeposit(new Transaction(accountNumber,
+                amount,
+                description,
+                null,
+                TransactionType.DEPOSIT,
+                TimeSource.epochSecondOf(now),
+                TimeSource.nanoOf(now)), now);
     }
 
     public void withdraw(String accountNumber,
                         Double amount,
                         String description,
                         LocalDateTime date) {
-        AccountValidator.selfValidate(accountManager.getAccount(accountNumber));
-
-        Transaction transaction = new Transaction(accountNumber,
+        postWithdraw(new Transaction(accountNumber,
                 amount,
                 description,
                 null,
                 TransactionType.WITHDRAW,
-                date);
+                date), timeSource.currentTimeMillis());
+    }
 
-        accountManager.getAccount(accountNumber).processTransaction(transaction);
-        transactionManager.setTransaction(accountNumber, transaction);
+    public void withdraw(String accountNumber,
+                         Double amount,
+                         String description) {
+        long now = timeSource.currentTimeMillis();
+        postWithdraw(new Transaction(accountNumber,
+                amount,
+                description,
+                null,
+                TransactionType.WITHDRAW,
+                TimeSource.epochSecondOf(now),
+                TimeSource.nanoOf(now)), now);
     }
 
     public void transfer(String fromAccountNumber, String toAccountNumber,
                          Double amount,
                          String description,
                          LocalDateTime date) {
-        Account fromAccount = accountManager.getAccount(fromAccountNumber);
-        Account toAaccount = accountManager.getAccount(toAccountNumber);
-
-        Transaction fromTransaction = new Transaction(fromAccountNumber,
+        postTransfer(new Transaction(fromAccountNumber,
                 amount,
                 description,
                 toAccountNumber,
                 TransactionType.TRANSFER,
-                date);
+                date), timeSource.currentTimeMillis());
+    }
 
-        Transaction toTransaction = new Transaction(toAccountNumber,
+    public void transfer(String fromAccountNumber, String toAccountNumber,
+                         Double amount,
+                         String description) {
+        long now = timeSource.currentTimeMillis();
+        postTransfer(new Transaction(fromAccountNumber,
                 amount,
                 description,
-                null,
-                TransactionType.DEPOSIT,
-                date);
-        fromAccount.processTransaction(fromTransaction);
-        toAaccount.processTransaction(toTransaction);
+                toAccountNumber,
+                TransactionType.TRANSFER,
+                TimeSource.epochSecondOf(now),
+                TimeSource.nanoOf(now)), now);
+    }
+
+    private void postDeposit(Transaction transaction, long now) {
+        AccountValidator.selfValidate(accountManager.getAccount(transaction.getAccountNumber()));
+        post(transaction, now);
+    }
+
+    private void postWithdraw(Transaction transaction, long now) {
+        AccountValidator.selfValidate(accountManager.getAccount(transaction.getAccountNumber()));
+        post(transaction, now);
+    }
+
+    private void postTransfer(Transaction fromTransaction, long now) {
+        Account fromAccount = accountManager.getAccount(fromTransaction.getAccountNumber());
+        Account toAaccount = accountManager.getAccount(fromTransaction.getToAccount());
+        Transaction toTransaction = fromTransaction.creditLeg();
+        List<Transaction> legs = List.of(fromTransaction, toTransaction);
+
+        TransactionValidator.validateDate(fromTransaction, now);
+        notify(listener -> listener.onPosting(legs));
+        try {
+            fromAccount.processTransaction(fromTransaction);
+            toAaccount.processTransaction(toTransaction);
+        } catch (RuntimeException e) {
+            notify(listener -> listener.onAborted(legs));
+            throw e;
+        }
+
+        transactionManager.setTransaction(fromTransaction.getAccountNumber(), fromTransaction);
+        transactionManager.setTransaction(toTransaction.getAccountNumber(), toTransaction);
+        notify(listener -> listener.onPosted(legs));
+    }
 
-        transactionManager.setTransaction(fromAccountNumber, fromTransaction);
-        transactionManager.setTransaction(toAccountNumber, toTransaction);
+    // Listeners only observe postings, so a failing listener must never surface as a failed or undone posting.
+    private void notify(Consumer<PostingListener> event) {
+        for(PostingListener listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
     }
 
 }
@@ -3,7 +3,9 @@ package com.bank;
 import com.bank.enums.TransactionType;
 import com.bank.validators.TransactionValidator;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Objects;
 
 public class Transaction {
@@ -13,18 +15,48 @@ public class Transaction {
     private final String description;
     private final String toAccount;
     private final Enum<TransactionType> type;
-    private final LocalDateTime date;
+    private final long epochSecond;
+    private final int nano;
+    private LocalDateTime date;
 
+    // Whether the date is too far in the past is checked by the Bank against its TimeSource when posting.
     public Transaction(String accountNumber, Double amount, String description, String toAccount, Enum<TransactionType> type, LocalDateTime date) {
+        this(accountNumber, amount, description, toAccount, type, TransactionValidator.toInstant(date), date);
+    }
+
+    private Transaction(String accountNumber, Double amount, String description, String toAccount, Enum<TransactionType> type, Instant instant, LocalDateTime date) {
+        this(accountNumber, amount, description, toAccount, type, instant.getEpochSecond(), instant.getNano(), date);
+    }
+
+    Transaction(String accountNumber, Double amount, String description, String toAccount, Enum<TransactionType> type, long epochSecond, int nano) {
+        this(accountNumber, amount, description, toAccount, type, epochSecond, nano, null);
+    }
+
+    private Transaction(String accountNumber, Double amount, String description, String toAccount, Enum<TransactionType> type, long epochSecond, int nano, LocalDateTime date) {
         this.accountNumber = accountNumber;
         this.amount = amount;
         this.description = description;
         this.toAccount = toAccount;
         this.type = type;
+        this.epochSecond = epochSecond;
+        this.nano = nano;
         this.date = date;
        TransactionValidator.selfValidate(this);
     }
 
+    // The receiving side of a transfer, stamped with the same instant and date.
+    Transaction creditLeg() {
+        return new Transaction(toAccount, amount, description, null, TransactionType.DEPOSIT, epochSecond, nano, date);
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public String getToAccount() {
+        return toAccount;
+    }
+
     public Double getAmount() {
         return amount;
     }
@@ -33,10 +65,26 @@ public class Transaction {
         return type;
     }
 
+    // Undated postings only carry the instant, so their date is derived on first use.
     public LocalDateTime getDate() {
+        if(date == null) {
+            date = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), ZoneId.systemDefault());
+        }
         return date;
     }
 
+    public long getTimestamp() {
+        return epochSecond * 1_000 + nano / 1_000_000;
+    }
+
+    public long getEpochSecond() {
+        return epochSecond;
+    }
+
+    public int getNano() {
+        return nano;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -49,7 +97,7 @@ public class Transaction {
                 ", description='" + description + '\'' +
                 ", toAccount='" + toAccount + '\'' +
                 ", type=" + type +
-                ", date=" + date +
+                ", date=" + getDate() +
                 '}';
     }
 
@@ -57,12 +105,12 @@ public class Transaction {
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         Transaction that = (Transaction) o;
-        return Objects.equals(accountNumber, that.accountNumber) && Objects.equals(amount, that.amount) && Objects.equals(description, that.description) && Objects.equals(toAccount, that.toAccount) && Objects.equals(type, that.type) && Objects.equals(date, that.date);
+        return Objects.equals(accountNumber, that.accountNumber) && Objects.equals(amount, that.amount) && Objects.equals(description, that.description) && Objects.equals(toAccount, that.toAccount) && Objects.equals(type, that.type) && epochSecond == that.epochSecond && nano == that.nano;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(accountNumber, amount, description, toAccount, type, date);
+        return Objects.hash(accountNumber, amount, description, toAccount, type, epochSecond, nano);
     }
 
 }
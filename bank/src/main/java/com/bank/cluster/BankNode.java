@@ -0,0 +1,272 @@
+package com.bank.cluster;
+
+import com.bank.Account;
+import com.bank.Bank;
+import com.bank.Transaction;
+import com.bank.enums.TransactionType;
+import com.bank.listeners.PostingListener;
+import com.bank.managers.AccountManager;
+import com.bank.managers.TransactionManager;
+import com.bank.reconciliation.ReconciliationService;
+import com.bank.time.SystemTimeSource;
+import com.bank.time.TimeSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class BankNode {
+
+    public static final int DEFAULT_REMEMBERED_LEGS = 100_000;
+
+    private final String nodeId;
+    private final AccountManager accountManager;
+    private final TransactionManager transactionManager;
+    private final Bank bank;
+    private final Set<String> appliedLegs = new HashSet<>();
+    private final Deque<String> appliedLegOrder = new ArrayDeque<>();
+    private final Map<String, PendingTransfer> pendingTransfers = new LinkedHashMap<>();
+    private final int rememberedLegs;
+    private volatile boolean available = true;
+    private int failingLegs;
+    private int legsUntilStop;
+
+    public BankNode(String nodeId) {
+        this(nodeId, new SystemTimeSource());
+    }
+
+    public BankNode(String nodeId, TimeSource timeSource) {
+        this(nodeId, timeSource, DEFAULT_REMEMBERED_LEGS);
+    }
+
+    public BankNode(String nodeId, TimeSource timeSource, int rememberedLegs) {
+        if(nodeId == null || nodeId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Node id cannot be null.");
+        }
+        if(rememberedLegs <= 0) {
+            throw new IllegalArgumentException("Remembered legs must be positive.");
+        }
+
+        this.nodeId = nodeId;
+        this.accountManager = new AccountManager();
+        this.transactionManager = new TransactionManager(accountManager);
+        this.bank = new Bank(accountManager, transactionManager, timeSource);
+        this.rememberedLegs = rememberedLegs;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public synchronized void addPostingListener(PostingListener listener) {
+        bank.addPostingListener(listener);
+    }
+
+    // Attached under the node lock, so the service is seeded from a history no posting is changing.
+    public synchronized ReconciliationService attachReconciliation() {
+        return ReconciliationService.attach(bank, accountManager, transactionManager);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void stop() {
+        this.available = false;
+    }
+
+    public void start() {
+        this.available = true;
+    }
+
+    public synchronized void failNextLegs(int legs) {
+        if(legs < 0) {
+            throw new IllegalArgumentException("Leg count cannot be negative.");
+        }
+        this.failingLegs = legs;
+    }
+
+    public synchronized void stopAfterLegs(int legs) {
+        if(legs < 0) {
+            throw new IllegalArgumentException("Leg count cannot be negative.");
+        }
+        this.legsUntilStop = legs;
+    }
+
+    public synchronized void createAccount(String accountNumber, Double amount) {
+        ensureAvailable();
+        accountManager.createAccount(accountNumber, amount);
+    }
+
+    public synchronized Boolean accountExists(String accountNumber) {
+        ensureAvailable();
+        return accountManager.accountExists(accountNumber);
+    }
+
+    public synchronized Double getBalance(String accountNumber) {
+        ensureAvailable();
+        return accountManager.getAccount(accountNumber).getBalance();
+    }
+
+    public synchronized List<Transaction> getTransactionHistory(String accountNumber) {
+        ensureAvailable();
+        return transactionManager.getTransactionHistoryByAccountNumber(accountNumber);
+    }
+
+    public synchronized Double getTotalBalance() {
+        ensureAvailable();
+        return accountManager.getAccounts().values().stream()
+                .mapToDouble(Account::getBalance)
+                .sum();
+    }
+
+    public synchronized void deposit(String accountNumber, Double amount, String description, LocalDateTime date) {
+        ensureAvailable();
+        bank.deposit(accountNumber, amount, description, date);
+    }
+
+    public synchronized void withdraw(String accountNumber, Double amount, String description, LocalDateTime date) {
+        ensureAvailable();
+        bank.withdraw(accountNumber, amount, description, date);
+    }
+
+    public synchronized void transfer(String fromAccountNumber, String toAccountNumber,
+                                      Double amount,
+                                      String description,
+                                      LocalDateTime date) {
+        ensureAvailable();
+        bank.transfer(fromAccountNumber, toAccountNumber, amount, description, date);
+    }
+
+    // The debit records its transfer as pending on this node until the router settles or compensates it.
+    public synchronized boolean debit(String transferId,
+                                      String fromAccountNumber,
+                                      String toAccountNumber,
+                                      Double amount,
+                                      String description,
+                                      LocalDateTime date) {
+        boolean applied = applyLeg(transferId + ":debit", () -> bank.post(new Transaction(fromAccountNumber,
+                amount,
+                description,
+                toAccountNumber,
+                TransactionType.TRANSFER,
+                date)));
+
+        if(applied) {
+            pendingTransfers.put(transferId, new PendingTransfer(transferId, fromAccountNumber, toAccountNumber, amount, description));
+        }
+        return applied;
+    }
+
+    public synchronized void settle(String transferId) {
+        ensureAvailable();
+        pendingTransfers.remove(transferId);
+    }
+
+    public synchronized boolean compensate(String transferId) {
+        ensureAvailable();
+        PendingTransfer pending = pendingTransfers.get(transferId);
+        if(pending == null) {
+            return false;
+        }
+
+        credit(transferId + ":compensate", pending.getFromAccountNumber(), pending.getAmount(), "Reversal: " + pending.getDescription());
+        pendingTransfers.remove(transferId);
+        return true;
+    }
+
+    public synchronized List<PendingTransfer> getPendingTransfers() {
+        ensureAvailable();
+        return new ArrayList<>(pendingTransfers.values());
+    }
+
+    public synchronized boolean credit(String legId,
+                                       String toAccountNumber,
+                                       Double amount,
+                                       String description,
+                                       LocalDateTime date) {
+        return applyLeg(legId, () -> bank.post(new Transaction(toAccountNumber,
+                amount,
+                description,
+                null,
+                TransactionType.DEPOSIT,
+                date)));
+    }
+
+    public synchronized boolean credit(String legId,
+                                       String toAccountNumber,
+                                       Double amount,
+                                       String description) {
+        return applyLeg(legId, () -> bank.deposit(toAccountNumber, amount, description));
+    }
+
+    public synchronized boolean hasApplied(String legId) {
+        return appliedLegs.contains(legId);
+    }
+
+    // Marks a leg that has not run yet as applied, so a late attempt to run it becomes a no-op.
+    public synchronized boolean fenceLeg(String legId) {
+        ensureAvailable();
+        if(appliedLegs.contains(legId)) {
+            return false;
+        }
+        remember(legId);
+        return true;
+    }
+
+    private boolean applyLeg(String legId, Runnable posting) {
+        ensureAvailable();
+        if(appliedLegs.contains(legId)) {
+            return false;
+        }
+        injectLegFailure();
+
+        posting.run();
+        rememberLeg(legId);
+        return true;
+    }
+
+    private void rememberLeg(String legId) {
+        remember(legId);
+
+        if(legsUntilStop > 0 && --legsUntilStop == 0) {
+            stop();
+        }
+    }
+
+    // Leg ids are only remembered up to a bound, so a retry must arrive before its id is evicted.
+    private void remember(String legId) {
+        appliedLegs.add(legId);
+        appliedLegOrder.add(legId);
+        if(appliedLegOrder.size() > rememberedLegs) {
+            appliedLegs.remove(appliedLegOrder.poll());
+        }
+    }
+
+    private void injectLegFailure() {
+        if(failingLegs > 0) {
+            failingLegs--;
+            throw new IllegalStateException("Injected leg failure on node " + nodeId);
+        }
+    }
+
+    private void ensureAvailable() {
+        if(!available) {
+            throw new IllegalStateException("Node " + nodeId + " is unavailable");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BankNode{" +
+                "nodeId='" + nodeId + '\'' +
+                ", available=" + available +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.bank.cluster;
+
+import com.bank.time.SystemTimeSource;
+import com.bank.time.TimeSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LocalCluster {
+
+    private final List<BankNode> nodes;
+    private final ShardedBank bank;
+
+    public LocalCluster(int nodeCount) {
+        this(nodeCount, new SystemTimeSource());
+    }
+
+    public LocalCluster(int nodeCount, TimeSource timeSource) {
+        if(nodeCount <= 0) {
+            throw new IllegalArgumentException("Cluster needs at least one node.");
+        }
+
+        List<BankNode> created = new ArrayList<>();
+        for(int i = 0; i < nodeCount; i++) {
+            created.add(new BankNode("node-" + i, timeSource));
+        }
+
+        this.nodes = List.copyOf(created);
+        this.bank = new ShardedBank(new ShardRouter(nodes));
+    }
+
+    public ShardedBank getBank() {
+        return bank;
+    }
+
+    public List<BankNode> getNodes() {
+        return nodes;
+    }
+
+    public BankNode getNode(int index) {
+        return nodes.get(index);
+    }
+
+    public BankNode nodeFor(String accountNumber) {
+        return bank.getRouter().route(accountNumber);
+    }
+
+    public void stopNode(int index) {
+        nodes.get(index).stop();
+    }
+
+    public void startNode(int index) {
+        nodes.get(index).start();
+    }
+
+    public void failNextLegs(int index, int legs) {
+        nodes.get(index).failNextLegs(legs);
+    }
+
+    public void stopAfterLegs(int index, int legs) {
+        nodes.get(index).stopAfterLegs(legs);
+    }
+
+    public Double getTotalBalance() {
+        return nodes.stream()
+                .mapToDouble(BankNode::getTotalBalance)
+                .sum();
+    }
+}
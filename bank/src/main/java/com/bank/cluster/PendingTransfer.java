@@ -0,0 +1,63 @@
+package com.bank.cluster;
+
+import java.util.Objects;
+
+public final class PendingTransfer {
+
+    private final String transferId;
+    private final String fromAccountNumber;
+    private final String toAccountNumber;
+    private final Double amount;
+    private final String description;
+
+    public PendingTransfer(String transferId, String fromAccountNumber, String toAccountNumber, Double amount, String description) {
+        this.transferId = transferId;
+        this.fromAccountNumber = fromAccountNumber;
+        this.toAccountNumber = toAccountNumber;
+        this.amount = amount;
+        this.description = description;
+    }
+
+    public String getTransferId() {
+        return transferId;
+    }
+
+    public String getFromAccountNumber() {
+        return fromAccountNumber;
+    }
+
+    public String getToAccountNumber() {
+        return toAccountNumber;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return "PendingTransfer{" +
+                "transferId='" + transferId + '\'' +
+                ", fromAccountNumber='" + fromAccountNumber + '\'' +
+                ", toAccountNumber='" + toAccountNumber + '\'' +
+                ", amount=" + amount +
+                ", description='" + description + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        PendingTransfer that = (PendingTransfer) o;
+        return Objects.equals(transferId, that.transferId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transferId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.bank.cluster;
+
+import java.util.List;
+
+public class ShardRouter {
+
+    private final List<BankNode> nodes;
+
+    public ShardRouter(List<BankNode> nodes) {
+        if(nodes == null || nodes.isEmpty()) {
+            throw new IllegalArgumentException("Router needs at least one node.");
+        }
+
+        this.nodes = List.copyOf(nodes);
+    }
+
+    public BankNode route(String accountNumber) {
+        if(accountNumber == null || accountNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Account number cannot be null.");
+        }
+
+        long number = Long.parseLong(accountNumber);
+        return nodes.get((int) Math.floorMod(number, (long) nodes.size()));
+    }
+
+    public List<BankNode> getNodes() {
+        return nodes;
+    }
+}
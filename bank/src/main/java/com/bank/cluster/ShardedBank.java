@@ -0,0 +1,141 @@
+package com.bank.cluster;
+
+import com.bank.Transaction;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ShardedBank {
+
+    private final ShardRouter router;
+
+    public ShardedBank(ShardRouter router) {
+        this.router = router;
+    }
+
+    public void createAccount(String accountNumber, Double amount) {
+        router.route(accountNumber).createAccount(accountNumber, amount);
+    }
+
+    public Boolean accountExists(String accountNumber) {
+        return router.route(accountNumber).accountExists(accountNumber);
+    }
+
+    public Double getBalance(String accountNumber) {
+        return router.route(accountNumber).getBalance(accountNumber);
+    }
+
+    public List<Transaction> getTransactionHistory(String accountNumber) {
+        return router.route(accountNumber).getTransactionHistory(accountNumber);
+    }
+
+    public void deposit(String accountNumber,
+                        Double amount,
+                        String description,
+                        LocalDateTime date) {
+        router.route(accountNumber).deposit(accountNumber, amount, description, date);
+    }
+
+    public void withdraw(String accountNumber,
+                         Double amount,
+                         String description,
+                         LocalDateTime date) {
+        router.route(accountNumber).withdraw(accountNumber, amount, description, date);
+    }
+
+    public void transfer(String fromAccountNumber, String toAccountNumber,
+                         Double amount,
+                         String description,
+                         LocalDateTime date) {
+        BankNode source = router.route(fromAccountNumber);
+        BankNode target = router.route(toAccountNumber);
+
+        if(source == target) {
+            source.transfer(fromAccountNumber, toAccountNumber, amount, description, date);
+            return;
+        }
+
+        if(Boolean.FALSE.equals(target.accountExists(toAccountNumber))) {
+            throw new IllegalArgumentException("Account do not exists");
+        }
+
+        String transferId = "transfer-" + UUID.randomUUID();
+        if(!source.debit(transferId, fromAccountNumber, toAccountNumber, amount, description, date)) {
+            throw new IllegalStateException("Transfer " + transferId + " was already debited");
+        }
+
+        boolean credited;
+        try {
+            credited = target.credit(transferId + ":credit", toAccountNumber, amount, description, date);
+        } catch (RuntimeException e) {
+            resolve(source, transferId, false);
+            throw e;
+        }
+
+        if(!credited) {
+            throw new IllegalStateException("Transfer " + transferId + " was cancelled by recovery");
+        }
+        resolve(source, transferId, true);
+    }
+
+    // A transfer that cannot be resolved here stays pending on its source node; any router over
+    // the same nodes can finish it with recoverPendingTransfers once the nodes are reachable.
+    public int recoverPendingTransfers() {
+        int recovered = 0;
+        for(BankNode source : router.getNodes()) {
+            if(!source.isAvailable()) {
+                continue;
+            }
+
+            for(PendingTransfer pending : source.getPendingTransfers()) {
+                if(recover(source, pending)) {
+                    recovered++;
+                }
+            }
+        }
+        return recovered;
+    }
+
+    public List<PendingTransfer> getPendingTransfers() {
+        List<PendingTransfer> pending = new ArrayList<>();
+        for(BankNode node : router.getNodes()) {
+            if(node.isAvailable()) {
+                pending.addAll(node.getPendingTransfers());
+            }
+        }
+        return pending;
+    }
+
+    public ShardRouter getRouter() {
+        return router;
+    }
+
+    // The credit may already have landed, so it is fenced on the target before the debit is reversed.
+    private boolean recover(BankNode source, PendingTransfer pending) {
+        try {
+            BankNode target = router.route(pending.getToAccountNumber());
+            if(target.fenceLeg(pending.getTransferId() + ":credit")) {
+                source.compensate(pending.getTransferId());
+            } else {
+                source.settle(pending.getTransferId());
+            }
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static void resolve(BankNode source, String transferId, boolean credited) {
+        try {
+            if(credited) {
+                source.settle(transferId);
+            } else {
+                source.compensate(transferId);
+            }
+        } catch (RuntimeException e) {
+            // Left pending on the source node for recoverPendingTransfers.
+        }
+    }
+}
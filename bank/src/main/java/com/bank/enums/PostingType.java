@@ -0,0 +1,8 @@
+package com.bank.enums;
+
+public enum PostingType {
+    DEPOSIT,
+    WITHDRAW,
+    TRANSFER,
+    HISTORY
+}
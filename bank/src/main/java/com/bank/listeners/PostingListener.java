@@ -0,0 +1,20 @@
+package com.bank.listeners;
+
+import com.bank.Transaction;
+
+import java.util.List;
+
+public interface PostingListener {
+
+    // Called once per committed operation with every leg it recorded, in order.
+    // Exceptions are reported to the posting thread's handler and never undo the operation.
+    void onPosted(List<Transaction> legs);
+
+    // Called before any leg touches a balance; every call is followed by onPosted or onAborted.
+    default void onPosting(List<Transaction> legs) {
+    }
+
+    // Called when an operation announced through onPosting fails and records nothing.
+    default void onAborted(List<Transaction> legs) {
+    }
+}
@@ -3,12 +3,12 @@ package com.bank.managers;
 import com.bank.Account;
 import com.bank.validators.AccountValidator;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AccountManager {
 
-    private final Map<String, Account> accounts = new HashMap<>();
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
 
     public void createAccount(String accountNumber, Double amount) {
         Account newAccount = new Account(accountNumber, amount);
@@ -19,7 +19,7 @@ public class AccountManager {
     }
 
     public Account getAccount(String accountNumber) {
-        Account account = this.accounts.get(accountNumber);
+        Account account = accountNumber == null ? null : this.accounts.get(accountNumber);
 
         if(account == null) {
             throw new IllegalArgumentException("Account do not exists");
@@ -29,7 +29,7 @@ public class AccountManager {
     }
 
     public Boolean accountExists(String accountNumber) {
-        return this.accounts.containsKey(accountNumber);
+        return accountNumber != null && this.accounts.containsKey(accountNumber);
     }
 
     public Map<String, Account> getAccounts() {
@@ -37,10 +37,8 @@ public class AccountManager {
     }
 
     public void setAccount(String accountNumber, Account newAccount) {
-        if(Boolean.TRUE.equals(accountExists(accountNumber))) {
+        if(this.accounts.putIfAbsent(accountNumber, newAccount) != null) {
             throw new IllegalStateException("Account already exists");
         }
-
-        this.accounts.put(accountNumber, newAccount);
     }
 }
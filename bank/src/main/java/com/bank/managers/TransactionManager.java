@@ -5,41 +5,71 @@ import com.bank.Transaction;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TransactionManager {
 
     private final AccountManager accountManager;
-    private final Map<String, List<Transaction>> transactions = new HashMap<>();
+    private final Map<String, List<Transaction>> transactions = new ConcurrentHashMap<>();
 
     public TransactionManager(AccountManager accountManager) {
         this.accountManager = accountManager;
     }
 
     public List<Transaction> getTransactions() {
-        return transactions.values().stream()
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
+        List<Transaction> all = new ArrayList<>();
+        for(List<Transaction> history : transactions.values()) {
+            synchronized (history) {
+                all.addAll(history);
+            }
+        }
+        return all;
     }
 
     public List<Transaction> getTransactionHistoryByAccountNumber(String accountNumber) {
         Account account = accountManager.getAccount(accountNumber);
-        if(transactions.get(account.getAccountNumber()) != null) {
-            return new ArrayList<>(transactions.get(accountNumber));
+        List<Transaction> history = transactions.get(account.getAccountNumber());
+        if(history != null) {
+            synchronized (history) {
+                return new ArrayList<>(history);
+            }
         }
         return new ArrayList<>();
     }
 
-    public void setTransaction(String accountNumber, Transaction transaction) {
-        if(hasTransactions(accountNumber)) {
-            transactions.get(accountNumber).add(transaction);
-            return;
+    public List<Transaction> getTransactionHistoryRange(String accountNumber, int fromIndex, int toIndex) {
+        List<Transaction> history = transactions.get(accountNumber);
+        if(history == null) {
+            return new ArrayList<>();
+        }
+
+        synchronized (history) {
+            int end = Math.min(toIndex, history.size());
+            if(fromIndex >= end) {
+                return new ArrayList<>();
+            }
+            return new ArrayList<>(history.subList(fromIndex, end));
+        }
+    }
+
+    public int getTransactionCount(String accountNumber) {
+        List<Transaction> history = transactions.get(accountNumber);
+        if(history == null) {
+            return 0;
+        }
+
+        synchronized (history) {
+            return history.size();
         }
+    }
 
-        transactions.put(accountNumber, new ArrayList<>(List.of(transaction)));
+    public void setTransaction(String accountNumber, Transaction transaction) {
+        List<Transaction> history = transactions.computeIfAbsent(accountNumber, key -> new ArrayList<>());
+        synchronized (history) {
+            history.add(transaction);
+        }
     }
 
     public boolean hasTransactions(String accountNumber) {
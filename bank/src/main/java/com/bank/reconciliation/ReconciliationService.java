@@ -0,0 +1,379 @@
+package com.bank.reconciliation;
+
+import com.bank.Account;
+import com.bank.Bank;
+import com.bank.Transaction;
+import com.bank.listeners.PostingListener;
+import com.bank.managers.AccountManager;
+import com.bank.managers.TransactionManager;
+import com.bank.validators.TransactionValidator;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Balances are checked on the posting thread as each operation commits; history is replayed
+// in the background a slice at a time, resuming where the previous slice stopped, even mid-account.
+// Accounts that already exist are seeded from their recorded history, so attach it while the bank is idle.
+// Each account's ledger has its own lock and the bank-wide totals another, so a slice replaying
+// one account never holds up postings to the rest of the bank.
+public class ReconciliationService implements PostingListener, AutoCloseable {
+
+    private static final double TOLERANCE = 1e-6;
+
+    private final AccountManager accountManager;
+    private final TransactionManager transactionManager;
+    private final Map<String, Ledger> ledgers = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> checkQueue = new ConcurrentLinkedQueue<>();
+    private final Set<String> driftedAccounts = ConcurrentHashMap.newKeySet();
+    private final Object totalsLock = new Object();
+    private final Object sliceLock = new Object();
+
+    private double openingTotal;
+    private double externalNet;
+    private double observedTotal;
+    private int unbalancedOperations;
+    private String resumeAccount;
+    private ScheduledExecutorService scheduler;
+
+    public ReconciliationService(AccountManager accountManager, TransactionManager transactionManager) {
+        this.accountManager = accountManager;
+        this.transactionManager = transactionManager;
+
+        for(Account account : accountManager.getAccounts().values()) {
+            String accountNumber = account.getAccountNumber();
+            enroll(account, transactionManager.getTransactionHistoryRange(accountNumber, 0, Integer.MAX_VALUE));
+        }
+    }
+
+    public static ReconciliationService attach(Bank bank, AccountManager accountManager, TransactionManager transactionManager) {
+        ReconciliationService service = new ReconciliationService(accountManager, transactionManager);
+        bank.addPostingListener(service);
+        return service;
+    }
+
+    @Override
+    public void onPosting(List<Transaction> legs) {
+        for(Transaction leg : legs) {
+            Ledger ledger = ledgerFor(leg.getAccountNumber());
+            synchronized (ledger) {
+                ledger.inFlight++;
+            }
+        }
+    }
+
+    @Override
+    public void onAborted(List<Transaction> legs) {
+        for(Transaction leg : legs) {
+            Ledger ledger = ledgers.get(leg.getAccountNumber());
+            synchronized (ledger) {
+                ledger.settle();
+            }
+        }
+    }
+
+    @Override
+    public void onPosted(List<Transaction> legs) {
+        double net = 0.0;
+        Set<String> touched = new LinkedHashSet<>();
+
+        for(Transaction leg : legs) {
+            double signed = signedAmount(leg);
+            Ledger ledger = ledgerFor(leg.getAccountNumber());
+            synchronized (ledger) {
+                ledger.expectedBalance += signed;
+                ledger.postings++;
+                ledger.settle();
+            }
+            net += signed;
+            touched.add(leg.getAccountNumber());
+        }
+
+        double observedDelta = 0.0;
+        for(String accountNumber : touched) {
+            Ledger ledger = ledgers.get(accountNumber);
+            double actual = accountManager.getAccount(accountNumber).getBalance();
+            boolean drifted;
+            synchronized (ledger) {
+                observedDelta += actual - ledger.lastObserved;
+                ledger.lastObserved = actual;
+                drifted = ledger.inFlight == 0 && !matches(actual, ledger.expectedBalance);
+            }
+
+            if(drifted) {
+                driftedAccounts.add(accountNumber);
+            }
+        }
+
+        synchronized (totalsLock) {
+            observedTotal += observedDelta;
+            if(legs.size() > 1) {
+                if(!matches(net, 0.0)) {
+                    unbalancedOperations++;
+                }
+            } else {
+                externalNet += net;
+            }
+        }
+    }
+
+    // A slice replays at most maxEntries history entries, and an account with nothing new to replay
+    // still costs one, so a slice stays bounded however many accounts there are. Returns the number
+    // of accounts whose check completed.
+    public int reconcileSlice(int maxEntries) {
+        if(maxEntries <= 0) {
+            throw new IllegalArgumentException("Slice size must be positive.");
+        }
+
+        synchronized (sliceLock) {
+            enrollNewAccounts();
+
+            int budget = maxEntries;
+            int checked = 0;
+            for(int remaining = ledgers.size(); remaining > 0 && budget > 0; remaining--) {
+                String accountNumber = resumeAccount != null ? resumeAccount : checkQueue.poll();
+                resumeAccount = null;
+                if(accountNumber == null) {
+                    break;
+                }
+
+                int replayed = replayHistory(accountNumber, budget);
+                budget -= Math.max(1, replayed);
+
+                if(isBehind(accountNumber)) {
+                    resumeAccount = accountNumber;
+                    break;
+                }
+
+                checkAccount(accountNumber);
+                checkQueue.add(accountNumber);
+                checked++;
+            }
+            return checked;
+        }
+    }
+
+    public boolean isConserved() {
+        synchronized (totalsLock) {
+            return unbalancedOperations == 0
+                    && matches(observedTotal, openingTotal + externalNet)
+                    && driftedAccounts.isEmpty();
+        }
+    }
+
+    public double getExpectedTotal() {
+        synchronized (totalsLock) {
+            return openingTotal + externalNet;
+        }
+    }
+
+    public double getObservedTotal() {
+        synchronized (totalsLock) {
+            return observedTotal;
+        }
+    }
+
+    public int getUnbalancedOperations() {
+        synchronized (totalsLock) {
+            return unbalancedOperations;
+        }
+    }
+
+    public boolean isDrifted(String accountNumber) {
+        return driftedAccounts.contains(accountNumber);
+    }
+
+    public Set<String> getDriftedAccounts() {
+        return new HashSet<>(driftedAccounts);
+    }
+
+    public synchronized void start(long periodMillis, int sliceSize) {
+        if(periodMillis <= 0 || sliceSize <= 0) {
+            throw new IllegalArgumentException("Period and slice size must be positive.");
+        }
+        if(scheduler != null) {
+            throw new IllegalStateException("Reconciliation is already running");
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bank-reconciliation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> reconcileSlice(sliceSize), periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if(scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    // Only history entries already reported through onPosted are replayed, and the copy and replay
+    // happen outside the ledger lock so postings to this account are not held up by them.
+    private int replayHistory(String accountNumber, int maxEntries) {
+        Ledger ledger = ledgers.get(accountNumber);
+        int from;
+        int announced;
+        synchronized (ledger) {
+            from = ledger.verifiedPostings;
+            announced = ledger.postings;
+        }
+
+        int to = from + Math.min(maxEntries, announced - from);
+        List<Transaction> history = transactionManager.getTransactionHistoryRange(accountNumber, from, to);
+        double replayed = 0.0;
+        for(Transaction transaction : history) {
+            replayed += signedAmount(transaction);
+        }
+
+        synchronized (ledger) {
+            ledger.verifiedBalance += replayed;
+            ledger.verifiedPostings += history.size();
+        }
+        return history.size();
+    }
+
+    private boolean isBehind(String accountNumber) {
+        Ledger ledger = ledgers.get(accountNumber);
+        synchronized (ledger) {
+            return ledger.verifiedPostings < ledger.postings
+                    && transactionManager.getTransactionCount(accountNumber) > ledger.verifiedPostings;
+        }
+    }
+
+    // Announced entries missing from the history, or a replay that disagrees with them, are flagged at
+    // once. A live balance that disagrees, or history entries nobody announced, are only judged while no
+    // operation on the account is in flight, and flagged when a later check still sees them with no
+    // posting in between. Postings are recorded before they are announced and announced under the
+    // ledger lock, so under that lock recorded never trails postings.
+    private void checkAccount(String accountNumber) {
+        Ledger ledger = ledgers.get(accountNumber);
+        double observedDelta = 0.0;
+        boolean drifted;
+
+        synchronized (ledger) {
+            int recorded = transactionManager.getTransactionCount(accountNumber);
+            double actual = accountManager.getAccount(accountNumber).getBalance();
+
+            if(recorded < ledger.postings) {
+                drifted = true;
+            } else if(ledger.verifiedPostings < ledger.postings) {
+                return;
+            } else if(ledger.inFlight > 0) {
+                ledger.suspectPostings = -1;
+                return;
+            } else if(!matches(ledger.verifiedBalance, ledger.expectedBalance)) {
+                drifted = true;
+            } else if(matches(actual, ledger.verifiedBalance) && recorded == ledger.postings) {
+                ledger.suspectPostings = -1;
+                drifted = false;
+            } else if(ledger.suspectPostings == ledger.postings) {
+                observedDelta = actual - ledger.lastObserved;
+                ledger.lastObserved = actual;
+                drifted = true;
+            } else {
+                ledger.suspectPostings = ledger.postings;
+                drifted = false;
+            }
+        }
+
+        if(drifted) {
+            driftedAccounts.add(accountNumber);
+        }
+        if(observedDelta != 0.0) {
+            synchronized (totalsLock) {
+                observedTotal += observedDelta;
+            }
+        }
+    }
+
+    private void enrollNewAccounts() {
+        Map<String, Account> accounts = accountManager.getAccounts();
+        if(accounts.size() <= ledgers.size()) {
+            return;
+        }
+
+        for(Account account : accounts.values()) {
+            if(!ledgers.containsKey(account.getAccountNumber())) {
+                enroll(account, List.of());
+            }
+        }
+    }
+
+    private Ledger ledgerFor(String accountNumber) {
+        Ledger ledger = ledgers.get(accountNumber);
+        if(ledger != null) {
+            return ledger;
+        }
+        return enroll(accountManager.getAccount(accountNumber), List.of());
+    }
+
+    private Ledger enroll(Account account, List<Transaction> history) {
+        Ledger ledger = new Ledger(account.getOpeningBalance());
+        for(Transaction transaction : history) {
+            ledger.expectedBalance += signedAmount(transaction);
+        }
+        ledger.postings = history.size();
+        ledger.lastObserved = ledger.expectedBalance;
+
+        Ledger existing = ledgers.putIfAbsent(account.getAccountNumber(), ledger);
+        if(existing != null) {
+            return existing;
+        }
+
+        synchronized (totalsLock) {
+            openingTotal += ledger.openingBalance;
+            externalNet += ledger.expectedBalance - ledger.openingBalance;
+            observedTotal += ledger.lastObserved;
+        }
+        checkQueue.add(account.getAccountNumber());
+        return ledger;
+    }
+
+    private static double signedAmount(Transaction transaction) {
+        if(TransactionValidator.isTransferOrWithdraw(transaction)) {
+            return -transaction.getAmount();
+        }
+        return transaction.getAmount();
+    }
+
+    private static boolean matches(double actual, double expected) {
+        return Math.abs(actual - expected) <= TOLERANCE * Math.max(1.0, Math.abs(expected));
+    }
+
+    private static final class Ledger {
+
+        private final double openingBalance;
+        private double expectedBalance;
+        private double lastObserved;
+        private int postings;
+        private double verifiedBalance;
+        private int verifiedPostings;
+        private int suspectPostings = -1;
+        private int inFlight;
+
+        private Ledger(double openingBalance) {
+            this.openingBalance = openingBalance;
+            this.expectedBalance = openingBalance;
+            this.lastObserved = openingBalance;
+            this.verifiedBalance = openingBalance;
+        }
+
+        // Operations already in flight when the service attached finish without having begun here.
+        private void settle() {
+            if(inFlight > 0) {
+                inFlight--;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.bank.time;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class CachedTimeSource implements TimeSource, AutoCloseable {
+
+    private final ScheduledExecutorService ticker;
+    private volatile long now;
+
+    public CachedTimeSource(long resolutionMillis) {
+        if(resolutionMillis <= 0) {
+            throw new IllegalArgumentException("Clock resolution must be positive.");
+        }
+
+        this.now = System.currentTimeMillis();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bank-clock-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> now = System.currentTimeMillis(),
+                resolutionMillis,
+                resolutionMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+}
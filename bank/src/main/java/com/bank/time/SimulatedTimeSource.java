@@ -0,0 +1,36 @@
+package com.bank.time;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SimulatedTimeSource implements TimeSource {
+
+    private final AtomicLong now;
+
+    public SimulatedTimeSource(long epochMillis) {
+        this.now = new AtomicLong(epochMillis);
+    }
+
+    public SimulatedTimeSource(LocalDateTime date) {
+        if(date == null) {
+            throw new IllegalArgumentException("Start date cannot be null.");
+        }
+        this.now = new AtomicLong(TimeSource.toEpochMillis(date));
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now.get();
+    }
+
+    public void set(long epochMillis) {
+        now.set(epochMillis);
+    }
+
+    public long advance(long millis) {
+        if(millis < 0) {
+            throw new IllegalArgumentException("Simulated time cannot go backwards.");
+        }
+        return now.addAndGet(millis);
+    }
+}
@@ -0,0 +1,9 @@
+package com.bank.time;
+
+public class SystemTimeSource implements TimeSource {
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,27 @@
+package com.bank.time;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public interface TimeSource {
+
+    long currentTimeMillis();
+
+    // Dates inside a daylight-saving gap do not exist in the system zone and resolve to the later offset.
+    static Instant toInstant(LocalDateTime date) {
+        return date.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    static long toEpochMillis(LocalDateTime date) {
+        return toInstant(date).toEpochMilli();
+    }
+
+    static long epochSecondOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, 1_000L);
+    }
+
+    static int nanoOf(long epochMillis) {
+        return (int) Math.floorMod(epochMillis, 1_000L) * 1_000_000;
+    }
+}
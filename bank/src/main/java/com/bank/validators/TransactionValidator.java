@@ -3,23 +3,26 @@ package com.bank.validators;
 import com.bank.Account;
 import com.bank.Transaction;
 import com.bank.enums.TransactionType;
+import com.bank.time.TimeSource;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 public abstract class TransactionValidator {
 
+    private static final long PAST_TOLERANCE_MILLIS = 2_000;
+
     private TransactionValidator(){}
 
     public static void selfValidate(Transaction transaction) {
         validateAmount(transaction);
         validateDescription(transaction);
-        validateDate(transaction);
     }
 
+    // The date is checked once per operation by the Bank, against the reading of its own TimeSource.
     public static void validateTransaction(Transaction transaction, Account account) {
         validateAmount(transaction);
         validateDescription(transaction);
-        validateDate(transaction);
 
         if(isTransferOrWithdraw(transaction)) {
             validateTransferAndWithdraw(transaction, account);
@@ -32,14 +35,16 @@ public abstract class TransactionValidator {
         }
     }
 
-    private static void validateDate(Transaction transaction) {
-        LocalDateTime now = LocalDateTime.now();
-
-        if(transaction.getDate() == null ) {
+    public static Instant toInstant(LocalDateTime date) {
+        if(date == null ) {
             throw new IllegalStateException("Transaction date cannot be null.");
         }
 
-        if(transaction.getDate().isBefore(now.minusSeconds(2))) {
+        return TimeSource.toInstant(date);
+    }
+
+    public static void validateDate(Transaction transaction, long now) {
+        if(transaction.getTimestamp() < now - PAST_TOLERANCE_MILLIS) {
             throw new IllegalStateException("Transaction date cannot be in the past.");
         }
     }
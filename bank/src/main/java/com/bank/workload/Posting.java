@@ -0,0 +1,84 @@
+package com.bank.workload;
+
+import com.bank.enums.PostingType;
+
+import java.util.Objects;
+
+public final class Posting {
+
+    private final PostingType type;
+    private final String accountNumber;
+    private final String toAccount;
+    private final double amount;
+
+    public Posting(PostingType type, String accountNumber, String toAccount, double amount) {
+        if(type == null) {
+            throw new IllegalArgumentException("Posting type cannot be null.");
+        }
+        if(accountNumber == null || accountNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Posting account number cannot be null.");
+        }
+        if(type == PostingType.TRANSFER && (toAccount == null || toAccount.trim().isEmpty())) {
+            throw new IllegalArgumentException("Transfer posting needs a target account.");
+        }
+
+        this.type = type;
+        this.accountNumber = accountNumber;
+        this.toAccount = toAccount;
+        this.amount = amount;
+    }
+
+    public PostingType getType() {
+        return type;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+
+    public String getToAccount() {
+        return toAccount;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public String toLine() {
+        return type + "," + accountNumber + "," + (toAccount == null ? "" : toAccount) + "," + amount;
+    }
+
+    public static Posting fromLine(String line) {
+        String[] fields = line.split(",", -1);
+        if(fields.length != 4) {
+            throw new IllegalArgumentException("Malformed posting line: " + line);
+        }
+
+        return new Posting(PostingType.valueOf(fields[0]),
+                fields[1],
+                fields[2].isEmpty() ? null : fields[2],
+                Double.parseDouble(fields[3]));
+    }
+
+    @Override
+    public String toString() {
+        return "Posting{" +
+                "type=" + type +
+                ", accountNumber='" + accountNumber + '\'' +
+                ", toAccount='" + toAccount + '\'' +
+                ", amount=" + amount +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Posting posting = (Posting) o;
+        return Double.compare(amount, posting.amount) == 0 && type == posting.type && Objects.equals(accountNumber, posting.accountNumber) && Objects.equals(toAccount, posting.toAccount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, accountNumber, toAccount, amount);
+    }
+}
@@ -0,0 +1,89 @@
+package com.bank.workload;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PostingLog {
+
+    private static final String HEADER_PREFIX = "# accounts=";
+    private static final String BALANCE_PREFIX = " initialBalance=";
+
+    private final int accountCount;
+    private final double initialBalance;
+    private final List<Posting> postings;
+
+    public PostingLog(int accountCount, double initialBalance, List<Posting> postings) {
+        if(accountCount <= 0) {
+            throw new IllegalArgumentException("Account count must be positive.");
+        }
+        if(postings == null) {
+            throw new IllegalArgumentException("Postings cannot be null.");
+        }
+
+        this.accountCount = accountCount;
+        this.initialBalance = initialBalance;
+        this.postings = Collections.unmodifiableList(new ArrayList<>(postings));
+    }
+
+    public static PostingLog record(WorkloadGenerator generator, int count) {
+        WorkloadConfig config = generator.getConfig();
+        return new PostingLog(config.getAccountCount(), config.getInitialBalance(), generator.generate(count));
+    }
+
+    public int getAccountCount() {
+        return accountCount;
+    }
+
+    public double getInitialBalance() {
+        return initialBalance;
+    }
+
+    public List<Posting> getPostings() {
+        return postings;
+    }
+
+    public void write(Path file) {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER_PREFIX + accountCount + BALANCE_PREFIX + initialBalance);
+            writer.newLine();
+            for(Posting posting : postings) {
+                writer.write(posting.toLine());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write posting log " + file, e);
+        }
+    }
+
+    public static PostingLog read(Path file) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if(header == null || !header.startsWith(HEADER_PREFIX) || !header.contains(BALANCE_PREFIX)) {
+                throw new IllegalArgumentException("Missing posting log header in " + file);
+            }
+
+            int balanceAt = header.indexOf(BALANCE_PREFIX);
+            int accountCount = Integer.parseInt(header.substring(HEADER_PREFIX.length(), balanceAt));
+            double initialBalance = Double.parseDouble(header.substring(balanceAt + BALANCE_PREFIX.length()));
+
+            List<Posting> postings = new ArrayList<>();
+            String line;
+            while((line = reader.readLine()) != null) {
+                if(!line.isEmpty()) {
+                    postings.add(Posting.fromLine(line));
+                }
+            }
+            return new PostingLog(accountCount, initialBalance, postings);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read posting log " + file, e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.bank.workload;
+
+public class WorkloadConfig {
+
+    private final long seed;
+    private final int accountCount;
+    private final double initialBalance;
+    private final double skew;
+    private final int depositWeight;
+    private final int withdrawWeight;
+    private final int transferWeight;
+    private final int historyWeight;
+    private final int maxAmount;
+
+    public WorkloadConfig(long seed,
+                          int accountCount,
+                          double initialBalance,
+                          double skew,
+                          int depositWeight,
+                          int withdrawWeight,
+                          int transferWeight,
+                          int historyWeight,
+                          int maxAmount) {
+        if(accountCount <= 0) {
+            throw new IllegalArgumentException("Account count must be positive.");
+        }
+        if(initialBalance < 0.0) {
+            throw new IllegalArgumentException("Initial balance cannot be negative.");
+        }
+        if(skew < 0.0 || skew >= 1.0) {
+            throw new IllegalArgumentException("Skew must be between 0.0 (inclusive) and 1.0 (exclusive).");
+        }
+        if(depositWeight < 0 || withdrawWeight < 0 || transferWeight < 0 || historyWeight < 0
+                || depositWeight + withdrawWeight + transferWeight + historyWeight == 0) {
+            throw new IllegalArgumentException("Operation weights must be non-negative and not all zero.");
+        }
+        if(maxAmount <= 0) {
+            throw new IllegalArgumentException("Max amount must be positive.");
+        }
+
+        this.seed = seed;
+        this.accountCount = accountCount;
+        this.initialBalance = initialBalance;
+        this.skew = skew;
+        this.depositWeight = depositWeight;
+        this.withdrawWeight = withdrawWeight;
+        this.transferWeight = transferWeight;
+        this.historyWeight = historyWeight;
+        this.maxAmount = maxAmount;
+    }
+
+    public static WorkloadConfig defaults(long seed, int accountCount) {
+        return new WorkloadConfig(seed, accountCount, 1000.0, 0.99, 30, 30, 30, 10, 100);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getAccountCount() {
+        return accountCount;
+    }
+
+    public double getInitialBalance() {
+        return initialBalance;
+    }
+
+    public double getSkew() {
+        return skew;
+    }
+
+    public int getDepositWeight() {
+        return depositWeight;
+    }
+
+    public int getWithdrawWeight() {
+        return withdrawWeight;
+    }
+
+    public int getTransferWeight() {
+        return transferWeight;
+    }
+
+    public int getHistoryWeight() {
+        return historyWeight;
+    }
+
+    public int getMaxAmount() {
+        return maxAmount;
+    }
+
+    public static String accountNumber(int index) {
+        return String.valueOf(index + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkloadConfig{" +
+                "seed=" + seed +
+                ", accountCount=" + accountCount +
+                ", initialBalance=" + initialBalance +
+                ", skew=" + skew +
+                ", depositWeight=" + depositWeight +
+                ", withdrawWeight=" + withdrawWeight +
+                ", transferWeight=" + transferWeight +
+                ", historyWeight=" + historyWeight +
+                ", maxAmount=" + maxAmount +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.bank.workload;
+
+import com.bank.enums.PostingType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class WorkloadGenerator {
+
+    private final WorkloadConfig config;
+    private final Random random;
+    private final ZipfianGenerator accounts;
+    private final int totalWeight;
+
+    public WorkloadGenerator(WorkloadConfig config) {
+        this.config = config;
+        this.random = new Random(config.getSeed());
+        this.accounts = new ZipfianGenerator(config.getAccountCount(), config.getSkew(), random);
+        this.totalWeight = config.getDepositWeight()
+                + config.getWithdrawWeight()
+                + config.getTransferWeight()
+                + config.getHistoryWeight();
+    }
+
+    public Posting next() {
+        PostingType type = nextType();
+        int from = accounts.next();
+        double amount = 1 + random.nextInt(config.getMaxAmount());
+
+        if(type == PostingType.TRANSFER) {
+            if(config.getAccountCount() == 1) {
+                type = PostingType.DEPOSIT;
+            } else {
+                int to = accounts.next();
+                while(to == from) {
+                    to = accounts.next();
+                }
+                return new Posting(type, WorkloadConfig.accountNumber(from), WorkloadConfig.accountNumber(to), amount);
+            }
+        }
+
+        return new Posting(type, WorkloadConfig.accountNumber(from), null, amount);
+    }
+
+    public List<Posting> generate(int count) {
+        if(count < 0) {
+            throw new IllegalArgumentException("Posting count cannot be negative.");
+        }
+
+        List<Posting> postings = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            postings.add(next());
+        }
+        return postings;
+    }
+
+    public WorkloadConfig getConfig() {
+        return config;
+    }
+
+    private PostingType nextType() {
+        int roll = random.nextInt(totalWeight);
+
+        if((roll -= config.getDepositWeight()) < 0) {
+            return PostingType.DEPOSIT;
+        }
+        if((roll -= config.getWithdrawWeight()) < 0) {
+            return PostingType.WITHDRAW;
+        }
+        if(roll - config.getTransferWeight() < 0) {
+            return PostingType.TRANSFER;
+        }
+        return PostingType.HISTORY;
+    }
+}
@@ -0,0 +1,68 @@
+package com.bank.workload;
+
+import java.util.Arrays;
+
+public class WorkloadReport {
+
+    private final int operations;
+    private final int rejected;
+    private final long elapsedNanos;
+    private final long[] sortedLatencies;
+
+    public WorkloadReport(int operations, int rejected, long elapsedNanos, long[] latencies) {
+        this.operations = operations;
+        this.rejected = rejected;
+        this.elapsedNanos = elapsedNanos;
+        this.sortedLatencies = Arrays.copyOf(latencies, latencies.length);
+        Arrays.sort(this.sortedLatencies);
+    }
+
+    public int getOperations() {
+        return operations;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getThroughputPerSecond() {
+        if(elapsedNanos == 0) {
+            return 0.0;
+        }
+        return operations * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public long getLatencyPercentileNanos(double percentile) {
+        if(percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        if(sortedLatencies.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)];
+    }
+
+    public long getMaxLatencyNanos() {
+        return sortedLatencies.length == 0 ? 0 : sortedLatencies[sortedLatencies.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("operations=%d rejected=%d elapsed=%.3fs throughput=%.1f ops/s "
+                        + "p50=%dus p95=%dus p99=%dus max=%dus",
+                operations,
+                rejected,
+                elapsedNanos / 1_000_000_000.0,
+                getThroughputPerSecond(),
+                getLatencyPercentileNanos(50) / 1_000,
+                getLatencyPercentileNanos(95) / 1_000,
+                getLatencyPercentileNanos(99) / 1_000,
+                getMaxLatencyNanos() / 1_000);
+    }
+}
@@ -0,0 +1,86 @@
+package com.bank.workload;
+
+import com.bank.Bank;
+import com.bank.managers.AccountManager;
+import com.bank.managers.TransactionManager;
+
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+public class WorkloadRunner {
+
+    private static final String DESCRIPTION = "workload";
+
+    private final AccountManager accountManager;
+    private final TransactionManager transactionManager;
+    private final Bank bank;
+
+    public WorkloadRunner(AccountManager accountManager, TransactionManager transactionManager, Bank bank) {
+        this.accountManager = accountManager;
+        this.transactionManager = transactionManager;
+        this.bank = bank;
+    }
+
+    public void createAccounts(int accountCount, double initialBalance) {
+        for(int i = 0; i < accountCount; i++) {
+            String accountNumber = WorkloadConfig.accountNumber(i);
+            if(Boolean.FALSE.equals(accountManager.accountExists(accountNumber))) {
+                accountManager.createAccount(accountNumber, initialBalance);
+            }
+        }
+    }
+
+    public WorkloadReport replay(PostingLog log, double ratePerSecond) {
+        createAccounts(log.getAccountCount(), log.getInitialBalance());
+        return run(log.getPostings(), ratePerSecond);
+    }
+
+    // A rate of zero or less replays as fast as possible. At a fixed rate, latency is measured
+    // from each posting's scheduled start so a stall also counts against the postings queued behind it.
+    public WorkloadReport run(List<Posting> postings, double ratePerSecond) {
+        long intervalNanos = ratePerSecond > 0 ? (long) (1_000_000_000.0 / ratePerSecond) : 0;
+        long[] latencies = new long[postings.size()];
+        int rejected = 0;
+
+        long start = System.nanoTime();
+        for(int i = 0; i < postings.size(); i++) {
+            long scheduled = start + i * intervalNanos;
+            long now = System.nanoTime();
+            if(intervalNanos > 0 && now < scheduled) {
+                LockSupport.parkNanos(scheduled - now);
+                while((now = System.nanoTime()) < scheduled) {
+                    Thread.onSpinWait();
+                }
+            }
+
+            try {
+                apply(postings.get(i));
+            } catch (IllegalStateException e) {
+                rejected++;
+            }
+            latencies[i] = System.nanoTime() - (intervalNanos > 0 ? scheduled : now);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new WorkloadReport(postings.size(), rejected, elapsed, latencies);
+    }
+
+    private void apply(Posting posting) {
+        switch (posting.getType()) {
+            case DEPOSIT:
+                bank.deposit(posting.getAccountNumber(), posting.getAmount(), DESCRIPTION);
+                break;
+            case WITHDRAW:
+                bank.withdraw(posting.getAccountNumber(), posting.getAmount(), DESCRIPTION);
+                break;
+            case TRANSFER:
+                bank.transfer(posting.getAccountNumber(), posting.getToAccount(), posting.getAmount(), DESCRIPTION);
+                break;
+            case HISTORY:
+                transactionManager.getTransactionHistoryByAccountNumber(posting.getAccountNumber());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown posting type " + posting.getType());
+        }
+    }
+}
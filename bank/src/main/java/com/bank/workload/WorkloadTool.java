@@ -0,0 +1,40 @@
+package com.bank.workload;
+
+import com.bank.Bank;
+import com.bank.managers.AccountManager;
+import com.bank.managers.TransactionManager;
+import com.bank.time.CachedTimeSource;
+import com.bank.time.SystemTimeSource;
+import com.bank.time.TimeSource;
+
+import java.nio.file.Path;
+
+public final class WorkloadTool {
+
+    private WorkloadTool() {}
+
+    public static void main(String[] args) {
+        if(args.length == 5 && args[0].equals("record")) {
+            WorkloadConfig config = WorkloadConfig.defaults(Long.parseLong(args[2]), Integer.parseInt(args[3]));
+            PostingLog.record(new WorkloadGenerator(config), Integer.parseInt(args[4])).write(Path.of(args[1]));
+            return;
+        }
+
+        if((args.length == 3 || args.length == 4) && args[0].equals("replay")) {
+            boolean cached = args.length == 4 && args[3].equals("cached");
+            try (CachedTimeSource cachedTimeSource = cached ? new CachedTimeSource(1) : null) {
+                TimeSource timeSource = cached ? cachedTimeSource : new SystemTimeSource();
+                AccountManager accountManager = new AccountManager();
+                TransactionManager transactionManager = new TransactionManager(accountManager);
+                WorkloadRunner runner = new WorkloadRunner(accountManager, transactionManager, new Bank(accountManager, transactionManager, timeSource));
+
+                System.out.println(runner.replay(PostingLog.read(Path.of(args[1])), Double.parseDouble(args[2])));
+            }
+            return;
+        }
+
+        System.err.println("usage: WorkloadTool record <file> <seed> <accounts> <postings>");
+        System.err.println("       WorkloadTool replay <file> <postings-per-second, 0 for max> [system|cached]");
+        System.exit(2);
+    }
+}
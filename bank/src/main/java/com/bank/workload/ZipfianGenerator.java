@@ -0,0 +1,55 @@
+package com.bank.workload;
+
+import java.util.Random;
+
+// Gray et al. "Quickly generating billion-record synthetic databases", as used by YCSB.
+public class ZipfianGenerator {
+
+    private final int itemCount;
+    private final double theta;
+    private final double alpha;
+    private final double zetan;
+    private final double eta;
+    private final Random random;
+
+    public ZipfianGenerator(int itemCount, double theta, Random random) {
+        if(itemCount <= 0) {
+            throw new IllegalArgumentException("Item count must be positive.");
+        }
+
+        this.itemCount = itemCount;
+        this.theta = theta;
+        this.random = random;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetan = zeta(itemCount, theta);
+        double zeta2 = zeta(Math.min(2, itemCount), theta);
+        this.eta = itemCount == 1 ? 0.0 : (1 - Math.pow(2.0 / itemCount, 1 - theta)) / (1 - zeta2 / zetan);
+    }
+
+    public int next() {
+        if(theta == 0.0) {
+            return random.nextInt(itemCount);
+        }
+
+        double u = random.nextDouble();
+        double uz = u * zetan;
+
+        if(uz < 1.0) {
+            return 0;
+        }
+        if(uz < 1.0 + Math.pow(0.5, theta)) {
+            return Math.min(1, itemCount - 1);
+        }
+
+        int value = (int) (itemCount * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(value, itemCount - 1);
+    }
+
+    private static double zeta(int n, double theta) {
+        double sum = 0.0;
+        for(int i = 1; i <= n; i++) {
+            sum += 1.0 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
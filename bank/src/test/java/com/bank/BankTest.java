@@ -3,6 +3,8 @@ package com.bank;
 import com.bank.enums.TransactionType;
 import com.bank.managers.AccountManager;
 import com.bank.managers.TransactionManager;
+import com.bank.time.CachedTimeSource;
+import com.bank.time.SimulatedTimeSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -338,6 +340,106 @@ class BankTest {
         }
     }
 
+    @Nested
+    @DisplayName("Time Source Tests")
+    class TimeSourceTests {
+
+        private SimulatedTimeSource clock;
+        private Bank simulatedBank;
+        private LocalDateTime lastYear;
+
+        @BeforeEach
+        void setUpTimeSource() {
+            lastYear = today.minusYears(1);
+            clock = new SimulatedTimeSource(lastYear);
+            simulatedBank = new Bank(accountManager, transactionManager, clock);
+            accountManager.createAccount("9001", 100.0);
+            accountManager.createAccount("9002", 0.0);
+        }
+
+        @Test
+        @DisplayName("Should accept back-dated posting against simulated clock")
+        void shouldAcceptBackDatedPosting() {
+            simulatedBank.deposit("9001", 50.0, "description", lastYear);
+
+            List<Transaction> history = transactionManager.getTransactionHistoryByAccountNumber("9001");
+            assertThat(history).hasSize(1);
+            assertThat(history.get(0).getDate()).isEqualTo(lastYear);
+        }
+
+        @Test
+        @DisplayName("Should reject posting older than simulated clock")
+        void shouldRejectPostingOlderThanSimulatedClock() {
+            clock.advance(60_000);
+
+            assertThatThrownBy(() -> simulatedBank.withdraw("9001", 10.0, "description", lastYear))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(accountManager.getAccount("9001").getBalance()).isEqualTo(100.0);
+        }
+
+        @Test
+        @DisplayName("Should stamp postings with the bank time source")
+        void shouldStampPostingsWithBankTimeSource() {
+            clock.advance(1_000);
+
+            simulatedBank.transfer("9001", "9002", 40.0, "description");
+
+            List<Transaction> history = transactionManager.getTransactionHistoryByAccountNumber("9002");
+            assertThat(history.get(0).getTimestamp()).isEqualTo(clock.currentTimeMillis());
+            assertThat(accountManager.getAccount("9002").getBalance()).isEqualTo(40.0);
+        }
+
+        @Test
+        @DisplayName("Should keep full precision of the posting date")
+        void shouldKeepFullPrecisionOfPostingDate() {
+            LocalDateTime precise = lastYear.withNano(123_456_789);
+
+            simulatedBank.deposit("9001", 10.0, "description", precise);
+
+            assertThat(transactionManager.getTransactionHistoryByAccountNumber("9001").get(0).getDate()).isEqualTo(precise);
+        }
+
+        @Test
+        @DisplayName("Should post a back-dated transaction against simulated clock")
+        void shouldPostBackDatedTransactionAgainstSimulatedClock() {
+            simulatedBank.post(new Transaction("9001", 10.0, "description", null, TransactionType.DEPOSIT, lastYear));
+
+            assertThat(accountManager.getAccount("9001").getBalance()).isEqualTo(110.0);
+            assertThat(transactionManager.getTransactionHistoryByAccountNumber("9001").get(0).getDate()).isEqualTo(lastYear);
+        }
+
+        @Test
+        @DisplayName("Should reject a posted transaction older than simulated clock")
+        void shouldRejectPostedTransactionOlderThanSimulatedClock() {
+            clock.advance(60_000);
+
+            assertThatThrownBy(() -> simulatedBank.post(new Transaction("9001", 10.0, "description", null, TransactionType.DEPOSIT, lastYear)))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(transactionManager.getTransactionHistoryByAccountNumber("9001")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should not post with null date")
+        void shouldNotPostWithNullDate() {
+            assertThatThrownBy(() -> simulatedBank.deposit("9001", 10.0, "description", null))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should advance cached clock on each tick")
+        void shouldAdvanceCachedClock() throws InterruptedException {
+            try (CachedTimeSource cached = new CachedTimeSource(1)) {
+                long first = cached.currentTimeMillis();
+                Thread.sleep(20);
+
+                assertThat(cached.currentTimeMillis()).isGreaterThan(first);
+                new Bank(accountManager, transactionManager, cached).deposit("9001", 10.0, "description");
+            }
+
+            assertThat(accountManager.getAccount("9001").getBalance()).isEqualTo(110.0);
+        }
+    }
+
     @Nested
     @DisplayName("Integration Tests")
     class IntegrationTests {
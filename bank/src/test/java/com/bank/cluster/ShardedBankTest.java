@@ -0,0 +1,337 @@
+package com.bank.cluster;
+
+import com.bank.Transaction;
+import com.bank.enums.TransactionType;
+import com.bank.time.SimulatedTimeSource;
+import com.bank.time.SystemTimeSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Sharded Bank Cluster Tests")
+class ShardedBankTest {
+
+    private LocalCluster cluster;
+    private ShardedBank bank;
+
+    private LocalDateTime today;
+
+    @BeforeEach
+    void setUp() {
+        cluster = new LocalCluster(3);
+        bank = cluster.getBank();
+
+        today = LocalDateTime.now();
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should route accounts by account number")
+        void shouldRouteAccountsByAccountNumber() {
+            assertThat(cluster.nodeFor("1000")).isSameAs(cluster.getNode(1));
+            assertThat(cluster.nodeFor("1001")).isSameAs(cluster.getNode(2));
+            assertThat(cluster.nodeFor("1002")).isSameAs(cluster.getNode(0));
+        }
+
+        @Test
+        @DisplayName("Should store account only on its owning node")
+        void shouldStoreAccountOnlyOnOwningNode() {
+            bank.createAccount("1000", 100.0);
+
+            assertThat(cluster.getNode(1).accountExists("1000")).isTrue();
+            assertThat(cluster.getNode(0).accountExists("1000")).isFalse();
+            assertThat(bank.getBalance("1000")).isEqualTo(100.0);
+        }
+
+        @Test
+        @DisplayName("Should not route invalid account number")
+        void shouldNotRouteInvalidAccountNumber() {
+            assertThatThrownBy(() -> bank.createAccount(null, 100.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cross-Shard Transfer Tests")
+    class CrossShardTransferTests {
+
+        @BeforeEach
+        void setUpAccounts() {
+            bank.createAccount("1000", 100.0);
+            bank.createAccount("1001", 50.0);
+            bank.createAccount("1003", 10.0);
+        }
+
+        @Test
+        @DisplayName("Should transfer money between shards")
+        void shouldTransferMoneyBetweenShards() {
+            bank.transfer("1000", "1001", 30.0, "description", today);
+
+            assertThat(bank.getBalance("1000")).isEqualTo(70.0);
+            assertThat(bank.getBalance("1001")).isEqualTo(80.0);
+
+            List<Transaction> fromHistory = bank.getTransactionHistory("1000");
+            List<Transaction> toHistory = bank.getTransactionHistory("1001");
+            assertThat(fromHistory).hasSize(1);
+            assertThat(fromHistory.get(0).getType().name()).isEqualTo(TransactionType.TRANSFER.name());
+            assertThat(toHistory).hasSize(1);
+            assertThat(toHistory.get(0).getType().name()).isEqualTo(TransactionType.DEPOSIT.name());
+        }
+
+        @Test
+        @DisplayName("Should transfer money within a shard")
+        void shouldTransferMoneyWithinShard() {
+            bank.transfer("1000", "1003", 40.0, "description", today);
+
+            assertThat(bank.getBalance("1000")).isEqualTo(60.0);
+            assertThat(bank.getBalance("1003")).isEqualTo(50.0);
+        }
+
+        @Test
+        @DisplayName("Should not debit when target account does not exist")
+        void shouldNotDebitWhenTargetAccountDoesNotExist() {
+            assertThatThrownBy(() -> bank.transfer("1000", "2001", 30.0, "description", today))
+                .isInstanceOf(IllegalArgumentException.class);
+
+            assertThat(bank.getBalance("1000")).isEqualTo(100.0);
+            assertThat(bank.getTransactionHistory("1000")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should not transfer more than balance")
+        void shouldNotTransferMoreThanBalance() {
+            assertThatThrownBy(() -> bank.transfer("1000", "1001", 150.0, "description", today))
+                .isInstanceOf(IllegalStateException.class);
+
+            assertThat(cluster.getTotalBalance()).isEqualTo(160.0);
+        }
+
+        @Test
+        @DisplayName("Should preserve total money across transfers")
+        void shouldPreserveTotalMoneyAcrossTransfers() {
+            bank.transfer("1000", "1001", 30.0, "description", today);
+            bank.transfer("1001", "1003", 20.0, "description", today);
+            bank.transfer("1003", "1000", 5.0, "description", today);
+
+            assertThat(cluster.getTotalBalance()).isEqualTo(160.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Time Source Tests")
+    class TimeSourceTests {
+
+        @Test
+        @DisplayName("Should stamp cross-shard legs with the cluster time source")
+        void shouldStampCrossShardLegsWithClusterTimeSource() {
+            LocalDateTime lastYear = LocalDateTime.now().minusYears(1);
+            LocalCluster simulated = new LocalCluster(3, new SimulatedTimeSource(lastYear));
+            simulated.getBank().createAccount("1000", 100.0);
+            simulated.getBank().createAccount("1001", 50.0);
+
+            simulated.getBank().transfer("1000", "1001", 30.0, "description", lastYear);
+
+            assertThat(simulated.getBank().getTransactionHistory("1001").get(0).getDate()).isEqualTo(lastYear);
+            assertThat(simulated.getTotalBalance()).isEqualTo(150.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @BeforeEach
+        void setUpAccounts() {
+            bank.createAccount("1000", 100.0);
+            bank.createAccount("1001", 50.0);
+        }
+
+        @Test
+        @DisplayName("Should reject operations on a stopped node")
+        void shouldRejectOperationsOnStoppedNode() {
+            cluster.stopNode(1);
+
+            assertThatThrownBy(() -> bank.deposit("1000", 10.0, "description", today))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(bank.getBalance("1001")).isEqualTo(50.0);
+        }
+
+        @Test
+        @DisplayName("Should not debit when target node is down")
+        void shouldNotDebitWhenTargetNodeIsDown() {
+            cluster.stopNode(2);
+
+            assertThatThrownBy(() -> bank.transfer("1000", "1001", 30.0, "description", today))
+                .isInstanceOf(IllegalStateException.class);
+
+            assertThat(bank.getBalance("1000")).isEqualTo(100.0);
+        }
+
+        @Test
+        @DisplayName("Should not compensate a credit whose listener fails")
+        void shouldNotCompensateCreditWhoseListenerFails() {
+            List<Throwable> reported = new ArrayList<>();
+            Thread thread = Thread.currentThread();
+            Thread.UncaughtExceptionHandler previous = thread.getUncaughtExceptionHandler();
+            cluster.nodeFor("1001").addPostingListener(legs -> {
+                throw new IllegalStateException("listener failure");
+            });
+
+            thread.setUncaughtExceptionHandler((failed, e) -> reported.add(e));
+            try {
+                bank.transfer("1000", "1001", 30.0, "description", today);
+            } finally {
+                thread.setUncaughtExceptionHandler(previous);
+            }
+
+            assertThat(reported).hasSize(1);
+            assertThat(bank.getBalance("1000")).isEqualTo(70.0);
+            assertThat(bank.getBalance("1001")).isEqualTo(80.0);
+            assertThat(bank.getPendingTransfers()).isEmpty();
+            assertThat(cluster.getTotalBalance()).isEqualTo(150.0);
+        }
+
+        @Test
+        @DisplayName("Should apply each leg only once")
+        void shouldApplyEachLegOnlyOnce() {
+            BankNode node = cluster.nodeFor("1001");
+
+            assertThat(node.credit("transfer-x:credit", "1001", 10.0, "description", today)).isTrue();
+            assertThat(node.credit("transfer-x:credit", "1001", 10.0, "description", today)).isFalse();
+
+            assertThat(bank.getBalance("1001")).isEqualTo(60.0);
+            assertThat(node.hasApplied("transfer-x:credit")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should compensate debit when credit fails")
+        void shouldCompensateDebitWhenCreditFails() {
+            cluster.failNextLegs(2, 1);
+
+            assertThatThrownBy(() -> bank.transfer("1000", "1001", 30.0, "description", today))
+                .isInstanceOf(IllegalStateException.class);
+
+            assertThat(bank.getBalance("1000")).isEqualTo(100.0);
+            assertThat(bank.getBalance("1001")).isEqualTo(50.0);
+            assertThat(bank.getTransactionHistory("1000")).hasSize(2);
+            assertThat(bank.getPendingTransfers()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should recover pending transfer once source node restarts")
+        void shouldRecoverPendingTransferOnceSourceNodeRestarts() {
+            cluster.stopAfterLegs(1, 1);
+            cluster.failNextLegs(2, 1);
+
+            assertThatThrownBy(() -> bank.transfer("1000", "1001", 30.0, "description", today))
+                .isInstanceOf(IllegalStateException.class);
+
+            assertThat(bank.recoverPendingTransfers()).isZero();
+
+            cluster.startNode(1);
+            assertThat(bank.getBalance("1000")).isEqualTo(70.0);
+            assertThat(bank.getPendingTransfers()).hasSize(1);
+
+            assertThat(bank.recoverPendingTransfers()).isEqualTo(1);
+            assertThat(bank.getPendingTransfers()).isEmpty();
+            assertThat(bank.getBalance("1000")).isEqualTo(100.0);
+            assertThat(bank.getBalance("1001")).isEqualTo(50.0);
+            assertThat(cluster.getTotalBalance()).isEqualTo(150.0);
+        }
+
+        @Test
+        @DisplayName("Should not reapply compensation after recovery")
+        void shouldNotReapplyCompensationAfterRecovery() {
+            cluster.stopAfterLegs(1, 1);
+            cluster.failNextLegs(2, 1);
+            assertThatThrownBy(() -> bank.transfer("1000", "1001", 30.0, "description", today))
+                .isInstanceOf(IllegalStateException.class);
+            cluster.startNode(1);
+
+            bank.recoverPendingTransfers();
+
+            assertThat(bank.recoverPendingTransfers()).isZero();
+            assertThat(cluster.getTotalBalance()).isEqualTo(150.0);
+        }
+
+        @Test
+        @DisplayName("Should recover pending transfer from a restarted router")
+        void shouldRecoverPendingTransferFromRestartedRouter() {
+            cluster.stopAfterLegs(1, 1);
+            cluster.failNextLegs(2, 1);
+            assertThatThrownBy(() -> bank.transfer("1000", "1001", 30.0, "description", today))
+                .isInstanceOf(IllegalStateException.class);
+            cluster.startNode(1);
+
+            ShardedBank restarted = new ShardedBank(new ShardRouter(cluster.getNodes()));
+
+            assertThat(restarted.getPendingTransfers()).hasSize(1);
+            assertThat(restarted.recoverPendingTransfers()).isEqualTo(1);
+            assertThat(restarted.getBalance("1000")).isEqualTo(100.0);
+            assertThat(cluster.getTotalBalance()).isEqualTo(150.0);
+        }
+
+        @Test
+        @DisplayName("Should settle pending transfer whose credit already landed")
+        void shouldSettlePendingTransferWhoseCreditLanded() {
+            cluster.nodeFor("1000").debit("transfer-x", "1000", "1001", 30.0, "description", today);
+            cluster.nodeFor("1001").credit("transfer-x:credit", "1001", 30.0, "description", today);
+
+            assertThat(bank.recoverPendingTransfers()).isEqualTo(1);
+
+            assertThat(bank.getPendingTransfers()).isEmpty();
+            assertThat(bank.getBalance("1000")).isEqualTo(70.0);
+            assertThat(bank.getBalance("1001")).isEqualTo(80.0);
+        }
+
+        @Test
+        @DisplayName("Should fence the credit of a transfer it compensates")
+        void shouldFenceCreditOfCompensatedTransfer() {
+            cluster.nodeFor("1000").debit("transfer-x", "1000", "1001", 30.0, "description", today);
+
+            assertThat(bank.recoverPendingTransfers()).isEqualTo(1);
+
+            assertThat(cluster.nodeFor("1001").credit("transfer-x:credit", "1001", 30.0, "description", today)).isFalse();
+            assertThat(bank.getBalance("1000")).isEqualTo(100.0);
+            assertThat(bank.getBalance("1001")).isEqualTo(50.0);
+        }
+
+        @Test
+        @DisplayName("Should forget oldest legs beyond the remembered bound")
+        void shouldForgetOldestLegsBeyondBound() {
+            BankNode node = new BankNode("bounded", new SystemTimeSource(), 2);
+            node.createAccount("5000", 0.0);
+
+            node.credit("leg-1", "5000", 1.0, "description", today);
+            node.credit("leg-2", "5000", 1.0, "description", today);
+            node.credit("leg-3", "5000", 1.0, "description", today);
+
+            assertThat(node.hasApplied("leg-1")).isFalse();
+            assertThat(node.hasApplied("leg-2")).isTrue();
+            assertThat(node.hasApplied("leg-3")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should keep ids unique across routers over the same nodes")
+        void shouldKeepIdsUniqueAcrossRouters() {
+            ShardedBank otherRouter = new ShardedBank(new ShardRouter(cluster.getNodes()));
+
+            bank.transfer("1000", "1001", 10.0, "description", today);
+            otherRouter.transfer("1000", "1001", 10.0, "description", today);
+
+            assertThat(bank.getBalance("1000")).isEqualTo(80.0);
+            assertThat(bank.getBalance("1001")).isEqualTo(70.0);
+            assertThat(cluster.getTotalBalance()).isEqualTo(150.0);
+        }
+    }
+}
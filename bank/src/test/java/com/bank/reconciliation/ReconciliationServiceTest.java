@@ -0,0 +1,240 @@
+package com.bank.reconciliation;
+
+import com.bank.Bank;
+import com.bank.Transaction;
+import com.bank.cluster.BankNode;
+import com.bank.cluster.LocalCluster;
+import com.bank.enums.TransactionType;
+import com.bank.managers.AccountManager;
+import com.bank.managers.TransactionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Reconciliation Service Tests")
+class ReconciliationServiceTest {
+
+    private Bank bank;
+    private AccountManager accountManager;
+    private TransactionManager transactionManager;
+    private ReconciliationService reconciliation;
+
+    private LocalDateTime today;
+
+    @BeforeEach
+    void setUp() {
+        accountManager = new AccountManager();
+        transactionManager = new TransactionManager(accountManager);
+        bank = new Bank(accountManager, transactionManager);
+        reconciliation = ReconciliationService.attach(bank, accountManager, transactionManager);
+
+        accountManager.createAccount("1001", 100.0);
+        accountManager.createAccount("1002", 50.0);
+
+        today = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciliation.close();
+    }
+
+    @Nested
+    @DisplayName("Account Drift Tests")
+    class AccountDriftTests {
+
+        @Test
+        @DisplayName("Should reconcile accounts after normal operations")
+        void shouldReconcileAccountsAfterNormalOperations() {
+            bank.deposit("1001", 50.0, "description", today);
+            bank.withdraw("1001", 20.0, "description", today);
+            bank.transfer("1001", "1002", 30.0, "description", today);
+
+            assertThat(reconciliation.reconcileSlice(10)).isEqualTo(2);
+            assertThat(reconciliation.getDriftedAccounts()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should flag balance drift on the next posting")
+        void shouldFlagBalanceDriftOnNextPosting() {
+            bank.deposit("1001", 50.0, "description", today);
+            accountManager.getAccount("1001").setAmount(5.0);
+
+            bank.deposit("1001", 10.0, "description", today);
+
+            assertThat(reconciliation.isDrifted("1001")).isTrue();
+            assertThat(reconciliation.isDrifted("1002")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should flag balance drift without a follow-up posting")
+        void shouldFlagBalanceDriftWithoutFollowUpPosting() {
+            bank.deposit("1001", 50.0, "description", today);
+            accountManager.getAccount("1001").setAmount(5.0);
+            accountManager.getAccount("1002").setAmount(5.0);
+
+            reconciliation.reconcileSlice(10);
+            reconciliation.reconcileSlice(10);
+
+            assertThat(reconciliation.getDriftedAccounts()).containsExactlyInAnyOrder("1001", "1002");
+            assertThat(reconciliation.isConserved()).isFalse();
+            assertThat(reconciliation.getObservedTotal()).isEqualTo(210.0);
+        }
+
+        @Test
+        @DisplayName("Should keep checking accounts after a rejected operation")
+        void shouldKeepCheckingAccountsAfterRejectedOperation() {
+            assertThatThrownBy(() -> bank.transfer("1002", "1001", 500.0, "description", today))
+                    .isInstanceOf(IllegalStateException.class);
+            accountManager.getAccount("1001").setAmount(5.0);
+
+            reconciliation.reconcileSlice(10);
+            reconciliation.reconcileSlice(10);
+
+            assertThat(reconciliation.getDriftedAccounts()).containsExactly("1001");
+        }
+
+        @Test
+        @DisplayName("Should flag history drift in background slice")
+        void shouldFlagHistoryDriftInBackgroundSlice() {
+            transactionManager.setTransaction("1001",
+                    new Transaction("1001", 999.0, "description", null, TransactionType.DEPOSIT, today));
+            bank.deposit("1001", 10.0, "description", today);
+            assertThat(reconciliation.isDrifted("1001")).isFalse();
+
+            reconciliation.reconcileSlice(10);
+
+            assertThat(reconciliation.isDrifted("1001")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should flag history entries past the announced postings")
+        void shouldFlagHistoryEntriesPastAnnouncedPostings() {
+            bank.deposit("1001", 10.0, "description", today);
+            transactionManager.setTransaction("1001",
+                    new Transaction("1001", 999.0, "description", null, TransactionType.DEPOSIT, today));
+
+            reconciliation.reconcileSlice(10);
+            assertThat(reconciliation.isDrifted("1001")).isFalse();
+            reconciliation.reconcileSlice(10);
+
+            assertThat(reconciliation.getDriftedAccounts()).containsExactly("1001");
+            assertThat(reconciliation.isConserved()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should resume a long history in the next slice")
+        void shouldResumeLongHistoryInNextSlice() {
+            for(int i = 0; i < 5; i++) {
+                bank.deposit("1001", 10.0, "description", today);
+            }
+
+            assertThat(reconciliation.reconcileSlice(2)).isZero();
+            assertThat(reconciliation.reconcileSlice(2)).isZero();
+            assertThat(reconciliation.reconcileSlice(2)).isEqualTo(2);
+            assertThat(reconciliation.getDriftedAccounts()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should bound each slice by the entries it replays")
+        void shouldBoundEachSliceByEntriesReplayed() {
+            bank.transfer("1001", "1002", 10.0, "description", today);
+
+            assertThat(reconciliation.reconcileSlice(1)).isEqualTo(1);
+            assertThat(reconciliation.reconcileSlice(1)).isEqualTo(1);
+            assertThatThrownBy(() -> reconciliation.reconcileSlice(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should reconcile in the background")
+        void shouldReconcileInBackground() throws InterruptedException {
+            transactionManager.setTransaction("1002",
+                    new Transaction("1002", 1.0, "description", null, TransactionType.WITHDRAW, today));
+            bank.deposit("1002", 10.0, "description", today);
+
+            reconciliation.start(1, 10);
+            for(int i = 0; i < 200 && !reconciliation.isDrifted("1002"); i++) {
+                Thread.sleep(5);
+            }
+
+            assertThat(reconciliation.isDrifted("1002")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Conservation Tests")
+    class ConservationTests {
+
+        @Test
+        @DisplayName("Should track external flows in the expected total")
+        void shouldTrackExternalFlowsInExpectedTotal() {
+            bank.deposit("1001", 50.0, "description", today);
+            bank.withdraw("1002", 20.0, "description", today);
+            bank.transfer("1001", "1002", 70.0, "description", today);
+
+            assertThat(reconciliation.isConserved()).isTrue();
+            assertThat(reconciliation.getExpectedTotal()).isEqualTo(180.0);
+            assertThat(reconciliation.getObservedTotal()).isEqualTo(180.0);
+            assertThat(reconciliation.getUnbalancedOperations()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should detect money created outside a posting")
+        void shouldDetectMoneyCreatedOutsidePosting() {
+            bank.deposit("1001", 50.0, "description", today);
+            accountManager.getAccount("1002").setAmount(25.0);
+
+            bank.transfer("1002", "1001", 10.0, "description", today);
+
+            assertThat(reconciliation.isConserved()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should seed existing history when attached late")
+        void shouldSeedExistingHistoryWhenAttachedLate() {
+            bank.deposit("1001", 50.0, "description", today);
+            bank.transfer("1001", "1002", 30.0, "description", today);
+            accountManager.createAccount("1003", 10.0);
+            bank.withdraw("1003", 5.0, "description", today);
+
+            ReconciliationService late = ReconciliationService.attach(bank, accountManager, transactionManager);
+            bank.deposit("1002", 20.0, "description", today);
+            late.reconcileSlice(10);
+            late.reconcileSlice(10);
+
+            assertThat(late.getDriftedAccounts()).isEmpty();
+            assertThat(late.isConserved()).isTrue();
+            assertThat(late.getExpectedTotal()).isEqualTo(225.0);
+            assertThat(late.getObservedTotal()).isEqualTo(225.0);
+        }
+
+        @Test
+        @DisplayName("Should reconcile cross-shard legs on each node")
+        void shouldReconcileCrossShardLegsOnEachNode() {
+            LocalCluster cluster = new LocalCluster(2);
+            BankNode even = cluster.getNode(0);
+            BankNode odd = cluster.getNode(1);
+            ReconciliationService evenReconciliation = even.attachReconciliation();
+            ReconciliationService oddReconciliation = odd.attachReconciliation();
+
+            cluster.getBank().createAccount("2000", 100.0);
+            cluster.getBank().createAccount("2001", 100.0);
+            cluster.getBank().transfer("2000", "2001", 40.0, "description", today);
+            evenReconciliation.reconcileSlice(10);
+            oddReconciliation.reconcileSlice(10);
+
+            assertThat(evenReconciliation.isConserved()).isTrue();
+            assertThat(oddReconciliation.isConserved()).isTrue();
+            assertThat(evenReconciliation.getExpectedTotal() + oddReconciliation.getExpectedTotal()).isEqualTo(200.0);
+            assertThat(evenReconciliation.getDriftedAccounts()).isEmpty();
+            assertThat(oddReconciliation.getDriftedAccounts()).isEmpty();
+        }
+    }
+}
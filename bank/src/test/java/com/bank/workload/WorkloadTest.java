@@ -0,0 +1,155 @@
+package com.bank.workload;
+
+import com.bank.Account;
+import com.bank.Bank;
+import com.bank.enums.PostingType;
+import com.bank.managers.AccountManager;
+import com.bank.managers.TransactionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Bank Workload Generator Tests")
+class WorkloadTest {
+
+    private AccountManager accountManager;
+    private TransactionManager transactionManager;
+    private WorkloadRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        accountManager = new AccountManager();
+        transactionManager = new TransactionManager(accountManager);
+        runner = new WorkloadRunner(accountManager, transactionManager, new Bank(accountManager, transactionManager));
+    }
+
+    @Nested
+    @DisplayName("Generator Tests")
+    class GeneratorTests {
+
+        @Test
+        @DisplayName("Should generate the same postings for the same seed")
+        void shouldGenerateSamePostingsForSameSeed() {
+            List<Posting> first = new WorkloadGenerator(WorkloadConfig.defaults(42, 100)).generate(1_000);
+            List<Posting> second = new WorkloadGenerator(WorkloadConfig.defaults(42, 100)).generate(1_000);
+
+            assertThat(first).isEqualTo(second);
+        }
+
+        @Test
+        @DisplayName("Should skew postings towards hot accounts")
+        void shouldSkewPostingsTowardsHotAccounts() {
+            List<Posting> postings = new WorkloadGenerator(WorkloadConfig.defaults(7, 1_000)).generate(10_000);
+
+            Map<String, Long> perAccount = postings.stream()
+                    .collect(Collectors.groupingBy(Posting::getAccountNumber, Collectors.counting()));
+
+            assertThat(perAccount.get("1")).isGreaterThan(perAccount.getOrDefault("500", 0L) * 10);
+        }
+
+        @Test
+        @DisplayName("Should only generate configured operation types")
+        void shouldOnlyGenerateConfiguredOperationTypes() {
+            WorkloadConfig config = new WorkloadConfig(1, 10, 100.0, 0.0, 1, 0, 1, 0, 10);
+
+            Map<PostingType, Long> perType = new WorkloadGenerator(config).generate(1_000).stream()
+                    .collect(Collectors.groupingBy(Posting::getType, Collectors.counting()));
+
+            assertThat(perType).containsOnlyKeys(PostingType.DEPOSIT, PostingType.TRANSFER);
+        }
+
+        @Test
+        @DisplayName("Should never transfer to the same account")
+        void shouldNeverTransferToSameAccount() {
+            WorkloadConfig config = new WorkloadConfig(3, 5, 100.0, 0.9, 0, 0, 1, 0, 10);
+
+            assertThat(new WorkloadGenerator(config).generate(1_000))
+                .allMatch(posting -> !posting.getAccountNumber().equals(posting.getToAccount()));
+        }
+
+        @Test
+        @DisplayName("Should not accept invalid config")
+        void shouldNotAcceptInvalidConfig() {
+            assertThatThrownBy(() -> new WorkloadConfig(1, 0, 100.0, 0.5, 1, 1, 1, 1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new WorkloadConfig(1, 10, 100.0, 1.0, 1, 1, 1, 1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new WorkloadConfig(1, 10, 100.0, 0.5, 0, 0, 0, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Record and Replay Tests")
+    class RecordAndReplayTests {
+
+        @Test
+        @DisplayName("Should round trip posting log through a file")
+        void shouldRoundTripPostingLog(@TempDir Path dir) {
+            PostingLog log = PostingLog.record(new WorkloadGenerator(WorkloadConfig.defaults(11, 50)), 500);
+            Path file = dir.resolve("postings.log");
+
+            log.write(file);
+            PostingLog read = PostingLog.read(file);
+
+            assertThat(read.getAccountCount()).isEqualTo(50);
+            assertThat(read.getInitialBalance()).isEqualTo(1000.0);
+            assertThat(read.getPostings()).isEqualTo(log.getPostings());
+        }
+
+        @Test
+        @DisplayName("Should replay log against bank and report every posting")
+        void shouldReplayLogAgainstBank() {
+            PostingLog log = PostingLog.record(new WorkloadGenerator(WorkloadConfig.defaults(5, 20)), 2_000);
+
+            WorkloadReport report = runner.replay(log, 0);
+
+            assertThat(accountManager.getAccounts()).hasSize(20);
+            assertThat(report.getOperations()).isEqualTo(2_000);
+            assertThat(report.getRejected()).isLessThan(2_000);
+            assertThat(report.getThroughputPerSecond()).isPositive();
+            assertThat(report.getLatencyPercentileNanos(50)).isLessThanOrEqualTo(report.getLatencyPercentileNanos(99));
+            assertThat(report.getLatencyPercentileNanos(99)).isLessThanOrEqualTo(report.getMaxLatencyNanos());
+        }
+
+        @Test
+        @DisplayName("Should reach the same balances on every replay")
+        void shouldReachSameBalancesOnEveryReplay() {
+            PostingLog log = PostingLog.record(new WorkloadGenerator(WorkloadConfig.defaults(9, 30)), 3_000);
+
+            runner.replay(log, 0);
+            Map<String, Double> firstBalances = balances(accountManager);
+
+            AccountManager otherAccounts = new AccountManager();
+            TransactionManager otherTransactions = new TransactionManager(otherAccounts);
+            new WorkloadRunner(otherAccounts, otherTransactions, new Bank(otherAccounts, otherTransactions)).replay(log, 0);
+
+            assertThat(balances(otherAccounts)).isEqualTo(firstBalances);
+        }
+
+        @Test
+        @DisplayName("Should pace replay at a fixed rate")
+        void shouldPaceReplayAtFixedRate() {
+            List<Posting> postings = new WorkloadGenerator(WorkloadConfig.defaults(3, 10)).generate(100);
+            runner.createAccounts(10, 1000.0);
+
+            WorkloadReport report = runner.run(postings, 1_000);
+
+            assertThat(report.getElapsedNanos()).isGreaterThanOrEqualTo(99_000_000L);
+        }
+
+        private Map<String, Double> balances(AccountManager accounts) {
+            return accounts.getAccounts().values().stream()
+                    .collect(Collectors.toMap(Account::getAccountNumber, Account::getBalance));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.college;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Each student takes COURSES_PER_STUDENT distinct courses picked by a fixed stride, so with the
+// default sizes every course ends up with about 500 students.
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Threads(8)
+public class CollegeBenchmark {
+
+    private static final int COURSES_PER_STUDENT = 5;
+
+    @State(Scope.Benchmark)
+    public static class Catalog {
+
+        @Param({"1000000"})
+        public int students;
+
+        @Param({"10000"})
+        public int courses;
+
+        College college;
+        String[] studentIds;
+        String[] courseIds;
+
+        void register() {
+            college = new College();
+            studentIds = new String[students];
+            courseIds = new String[courses];
+
+            for(int i = 0; i < courses; i++) {
+                courseIds[i] = "C" + i;
+                college.createCourse(courseIds[i], "Course " + i);
+            }
+            for(int i = 0; i < students; i++) {
+                studentIds[i] = "S" + i;
+                college.registerStudent(studentIds[i], "Student " + i);
+            }
+        }
+
+        List<String> coursesFor(int student) {
+            List<String> picked = new ArrayList<>(COURSES_PER_STUDENT);
+            for(int k = 0; k < COURSES_PER_STUDENT; k++) {
+                picked.add(courseIds[(int) ((student * 7_919L + k * 2_003L) % courses)]);
+            }
+            return picked;
+        }
+    }
+
+    // A fresh, empty term for every measured registration day.
+    @State(Scope.Benchmark)
+    public static class Term extends Catalog {
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            register();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class EnrolledTerm extends Catalog {
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            register();
+            for(int i = 0; i < students; i++) {
+                college.enrollStudent(studentIds[i], coursesFor(i));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Registrar {
+
+        private final SplittableRandom random = new SplittableRandom();
+        private int threadIndex;
+        private int threadCount;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threads) {
+            threadIndex = threads.getThreadIndex();
+            threadCount = threads.getThreadCount();
+        }
+    }
+
+    // Every thread bulk-enrolls its own share of the students; the score is the whole day's wall time.
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public int registrationDay(Term term, Registrar registrar) {
+        int duplicates = 0;
+        for(int i = registrar.threadIndex; i < term.students; i += registrar.threadCount) {
+            duplicates += term.college.enrollStudent(term.studentIds[i], term.coursesFor(i)).size();
+        }
+        return duplicates;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public boolean isStudentEnrolled(EnrolledTerm term, Registrar registrar) {
+        int student = registrar.random.nextInt(term.students);
+        return term.college.isStudentEnrolled(term.studentIds[student], term.coursesFor(student).get(0));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Collection<Enrollment> studentEnrollments(EnrolledTerm term, Registrar registrar) {
+        return term.college.getStudentEnrollments(term.studentIds[registrar.random.nextInt(term.students)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Collection<Enrollment> courseEnrollments(EnrolledTerm term, Registrar registrar) {
+        return term.college.getCourseEnrollments(term.courseIds[registrar.random.nextInt(term.courses)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public void assignGrade(EnrolledTerm term, Registrar registrar) {
+        int student = registrar.random.nextInt(term.students);
+        term.college.assignGrade(term.studentIds[student], term.coursesFor(student).get(1), 3.5);
+    }
+}
@@ -0,0 +1,204 @@
+package com.college;
+
+import com.college.validators.EnrollmentValidator;
+import com.college.validators.EntityValidator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class College {
+
+    private final Map<String, Student> students = new ConcurrentHashMap<>();
+    private final Map<String, Course> courses = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Enrollment>> enrollmentsByStudent = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Enrollment>> enrollmentsByCourse = new ConcurrentHashMap<>();
+
+    public void registerStudent(String studentId, String name) {
+        Student student = new Student(studentId, name);
+
+        enrollmentsByStudent.putIfAbsent(studentId, new ConcurrentHashMap<>());
+        if(students.putIfAbsent(studentId, student) != null) {
+            throw new IllegalStateException("Student already registered: " + studentId);
+        }
+    }
+
+    public Student getStudent(String studentId) {
+        EntityValidator.validateText(studentId, "Student id cannot be null.");
+        return students.get(studentId);
+    }
+
+    public Collection<Student> getAllStudents() {
+        return Collections.unmodifiableCollection(students.values());
+    }
+
+    public boolean isStudentRegistered(String studentId) {
+        return getStudent(studentId) != null;
+    }
+
+    public void createCourse(String courseId, String title) {
+        Course course = new Course(courseId, title);
+
+        enrollmentsByCourse.putIfAbsent(courseId, new ConcurrentHashMap<>());
+        if(courses.putIfAbsent(courseId, course) != null) {
+            throw new IllegalStateException("Course already created: " + courseId);
+        }
+    }
+
+    public Course getCourse(String courseId) {
+        EntityValidator.validateText(courseId, "Course id cannot be null.");
+        return courses.get(courseId);
+    }
+
+    public Collection<Course> getAllCourses() {
+        return Collections.unmodifiableCollection(courses.values());
+    }
+
+    public boolean isCourseCreated(String courseId) {
+        return getCourse(courseId) != null;
+    }
+
+    public Enrollment enrollStudent(String studentId, String courseId) {
+        Student student = getExistingStudent(studentId);
+        Course course = getExistingCourse(courseId);
+
+        Enrollment enrollment = enroll(student, course);
+        if(enrollment == null) {
+            throw new IllegalStateException("Student " + studentId + " is already enrolled in " + courseId);
+        }
+        return enrollment;
+    }
+
+    public List<String> enrollStudent(String studentId, Collection<String> courseIds) {
+        Student student = getExistingStudent(studentId);
+        if(courseIds == null) {
+            throw new IllegalArgumentException("Course ids cannot be null.");
+        }
+
+        List<Course> toEnroll = new ArrayList<>(courseIds.size());
+        for(String courseId : courseIds) {
+            toEnroll.add(getExistingCourse(courseId));
+        }
+
+        List<String> alreadyEnrolled = new ArrayList<>();
+        for(Course course : toEnroll) {
+            if(enroll(student, course) == null) {
+                alreadyEnrolled.add(course.getCourseId());
+            }
+        }
+        return alreadyEnrolled;
+    }
+
+    public boolean isStudentEnrolled(String studentId, String courseId) {
+        return getEnrollment(studentId, courseId) != null;
+    }
+
+    public Enrollment getEnrollment(String studentId, String courseId) {
+        EntityValidator.validateText(studentId, "Student id cannot be null.");
+        EntityValidator.validateText(courseId, "Course id cannot be null.");
+
+        Map<String, Enrollment> enrollments = enrollmentsByStudent.get(studentId);
+        if(enrollments == null) {
+            return null;
+        }
+
+        Enrollment enrollment = enrollments.get(courseId);
+        return enrollment != null && enrollment.isPublished() ? enrollment : null;
+    }
+
+    public Collection<Enrollment> getStudentEnrollments(String studentId) {
+        getExistingStudent(studentId);
+        return published(enrollmentsByStudent.get(studentId).values());
+    }
+
+    public Collection<Enrollment> getCourseEnrollments(String courseId) {
+        getExistingCourse(courseId);
+        return published(enrollmentsByCourse.get(courseId).values());
+    }
+
+    public void assignGrade(String studentId, String courseId, Double grade) {
+        EnrollmentValidator.validateGrade(grade);
+        getExistingEnrollment(studentId, courseId).assignGrade(grade);
+    }
+
+    public void assignGrades(String courseId, Map<String, Double> gradesByStudent) {
+        if(gradesByStudent == null) {
+            throw new IllegalArgumentException("Grades cannot be null.");
+        }
+
+        Map<Enrollment, Double> toAssign = new HashMap<>();
+        gradesByStudent.forEach((studentId, grade) -> {
+            EnrollmentValidator.validateGrade(grade);
+            toAssign.put(getExistingEnrollment(studentId, courseId), grade);
+        });
+
+        toAssign.forEach(Enrollment::assignGrade);
+    }
+
+    public Double getGrade(String studentId, String courseId) {
+        return getExistingEnrollment(studentId, courseId).getGrade();
+    }
+
+    public Map<String, Double> getStudentGrades(String studentId) {
+        Map<String, Double> grades = new HashMap<>();
+        for(Enrollment enrollment : getStudentEnrollments(studentId)) {
+            Double grade = enrollment.getGrade();
+            if(grade != null) {
+                grades.put(enrollment.getCourse().getCourseId(), grade);
+            }
+        }
+        return Collections.unmodifiableMap(grades);
+    }
+
+    // The student index is the claim: whoever wins putIfAbsent there adds it to the course index.
+    // Readers skip an enrollment until it is published, so it appears in both indexes at once.
+    // A duplicate racing the winner is rejected even though readers may not see the winner yet.
+    private Enrollment enroll(Student student, Course course) {
+        Enrollment enrollment = new Enrollment(student, course);
+
+        if(enrollmentsByStudent.get(student.getStudentId()).putIfAbsent(course.getCourseId(), enrollment) != null) {
+            return null;
+        }
+        enrollmentsByCourse.get(course.getCourseId()).put(student.getStudentId(), enrollment);
+        enrollment.publish();
+        return enrollment;
+    }
+
+    private static Collection<Enrollment> published(Collection<Enrollment> enrollments) {
+        List<Enrollment> visible = new ArrayList<>(enrollments.size());
+        for(Enrollment enrollment : enrollments) {
+            if(enrollment.isPublished()) {
+                visible.add(enrollment);
+            }
+        }
+        return Collections.unmodifiableList(visible);
+    }
+
+    private Student getExistingStudent(String studentId) {
+        Student student = getStudent(studentId);
+        if(student == null) {
+            throw new IllegalStateException("Student not registered: " + studentId);
+        }
+        return student;
+    }
+
+    private Course getExistingCourse(String courseId) {
+        Course course = getCourse(courseId);
+        if(course == null) {
+            throw new IllegalStateException("Course not created: " + courseId);
+        }
+        return course;
+    }
+
+    private Enrollment getExistingEnrollment(String studentId, String courseId) {
+        Enrollment enrollment = getEnrollment(studentId, courseId);
+        if(enrollment == null) {
+            throw new IllegalStateException("Student " + studentId + " is not enrolled in " + courseId);
+        }
+        return enrollment;
+    }
+}
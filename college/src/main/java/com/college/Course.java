@@ -0,0 +1,47 @@
+package com.college;
+
+import com.college.validators.EntityValidator;
+
+import java.util.Objects;
+
+public final class Course {
+
+    private final String courseId;
+    private final String title;
+
+    public Course(String courseId, String title) {
+        EntityValidator.validateText(courseId, "Course id cannot be null.");
+        EntityValidator.validateText(title, "Course title cannot be null.");
+
+        this.courseId = courseId;
+        this.title = title;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    @Override
+    public String toString() {
+        return "Course{" +
+                "courseId='" + courseId + '\'' +
+                ", title='" + title + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Course course = (Course) o;
+        return Objects.equals(courseId, course.courseId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(courseId);
+    }
+}
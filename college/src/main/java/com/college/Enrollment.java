@@ -0,0 +1,75 @@
+package com.college;
+
+import com.college.validators.EnrollmentValidator;
+
+import java.util.Objects;
+
+public class Enrollment {
+
+    private final Student student;
+    private final Course course;
+    private volatile Double grade;
+    private volatile boolean published;
+
+    public Enrollment(Student student, Course course) {
+        if(student == null) {
+            throw new IllegalArgumentException("Enrollment student cannot be null.");
+        }
+        if(course == null) {
+            throw new IllegalArgumentException("Enrollment course cannot be null.");
+        }
+
+        this.student = student;
+        this.course = course;
+    }
+
+    public void assignGrade(Double grade) {
+        EnrollmentValidator.validateGrade(grade);
+        this.grade = grade;
+    }
+
+    public boolean isGraded() {
+        return grade != null;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public Double getGrade() {
+        return grade;
+    }
+
+    boolean isPublished() {
+        return published;
+    }
+
+    void publish() {
+        this.published = true;
+    }
+
+    @Override
+    public String toString() {
+        return "Enrollment{" +
+                "student=" + student.getStudentId() +
+                ", course=" + course.getCourseId() +
+                ", grade=" + grade +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Enrollment that = (Enrollment) o;
+        return Objects.equals(student, that.student) && Objects.equals(course, that.course);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(student, course);
+    }
+}
@@ -0,0 +1,47 @@
+package com.college;
+
+import com.college.validators.EntityValidator;
+
+import java.util.Objects;
+
+public final class Student {
+
+    private final String studentId;
+    private final String name;
+
+    public Student(String studentId, String name) {
+        EntityValidator.validateText(studentId, "Student id cannot be null.");
+        EntityValidator.validateText(name, "Student name cannot be null.");
+
+        this.studentId = studentId;
+        this.name = name;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "Student{" +
+                "studentId='" + studentId + '\'' +
+                ", name='" + name + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Student student = (Student) o;
+        return Objects.equals(studentId, student.studentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId);
+    }
+}
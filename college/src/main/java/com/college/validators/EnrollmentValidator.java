@@ -0,0 +1,16 @@
+package com.college.validators;
+
+public abstract class EnrollmentValidator {
+
+    private EnrollmentValidator() {}
+
+    public static void validateGrade(Double grade) {
+        if(grade == null) {
+            return;
+        }
+
+        if(grade.isNaN() || grade < 0.0 || grade > 4.0) {
+            throw new IllegalArgumentException("Grade must be between 0.0 and 4.0.");
+        }
+    }
+}
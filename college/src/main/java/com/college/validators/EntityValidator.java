@@ -0,0 +1,12 @@
+package com.college.validators;
+
+public abstract class EntityValidator {
+
+    private EntityValidator() {}
+
+    public static void validateText(String value, String message) {
+        if(value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.college;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("College Enrollment Management System Tests")
+class CollegeTest {
+
+    private College college;
+
+    @BeforeEach
+    void setUp() {
+        college = new College();
+    }
+
+    @Nested
+    @DisplayName("Student and Course Management Tests")
+    class ManagementTests {
+
+        @Test
+        @DisplayName("Should register student and create course")
+        void shouldRegisterStudentAndCreateCourse() {
+            college.registerStudent("S1", "Alice");
+            college.createCourse("C1", "Algorithms");
+
+            assertThat(college.getStudent("S1").getName()).isEqualTo("Alice");
+            assertThat(college.getCourse("C1").getTitle()).isEqualTo("Algorithms");
+            assertThat(college.isStudentRegistered("S1")).isTrue();
+            assertThat(college.isCourseCreated("C2")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should not register duplicates")
+        void shouldNotRegisterDuplicates() {
+            college.registerStudent("S1", "Alice");
+            college.createCourse("C1", "Algorithms");
+
+            assertThatThrownBy(() -> college.registerStudent("S1", "Bob"))
+                .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> college.createCourse("C1", "Other"))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should not accept invalid input")
+        void shouldNotAcceptInvalidInput() {
+            assertThatThrownBy(() -> college.registerStudent(null, "Alice"))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> college.createCourse("C1", " "))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should return read-only views")
+        void shouldReturnReadOnlyViews() {
+            college.registerStudent("S1", "Alice");
+            Collection<Student> students = college.getAllStudents();
+
+            assertThatThrownBy(students::clear)
+                .isInstanceOf(UnsupportedOperationException.class);
+
+            college.registerStudent("S2", "Bob");
+            assertThat(students).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Enrollment Tests")
+    class EnrollmentTests {
+
+        @BeforeEach
+        void setUpEnrollment() {
+            college.registerStudent("S1", "Alice");
+            college.registerStudent("S2", "Bob");
+            college.createCourse("C1", "Algorithms");
+            college.createCourse("C2", "Databases");
+        }
+
+        @Test
+        @DisplayName("Should enroll student in both indexes")
+        void shouldEnrollStudentInBothIndexes() {
+            college.enrollStudent("S1", "C1");
+
+            assertThat(college.isStudentEnrolled("S1", "C1")).isTrue();
+            assertThat(college.getStudentEnrollments("S1")).extracting(e -> e.getCourse().getCourseId()).containsExactly("C1");
+            assertThat(college.getCourseEnrollments("C1")).extracting(e -> e.getStudent().getStudentId()).containsExactly("S1");
+        }
+
+        @Test
+        @DisplayName("Should not enroll twice")
+        void shouldNotEnrollTwice() {
+            college.enrollStudent("S1", "C1");
+
+            assertThatThrownBy(() -> college.enrollStudent("S1", "C1"))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(college.getCourseEnrollments("C1")).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should not enroll non-existent student or course")
+        void shouldNotEnrollNonExistent() {
+            assertThatThrownBy(() -> college.enrollStudent("S9", "C1"))
+                .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> college.enrollStudent("S1", "C9"))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should enroll student in several courses at once")
+        void shouldEnrollStudentInSeveralCourses() {
+            college.enrollStudent("S1", "C1");
+
+            List<String> alreadyEnrolled = college.enrollStudent("S1", List.of("C1", "C2"));
+
+            assertThat(alreadyEnrolled).containsExactly("C1");
+            assertThat(college.getStudentEnrollments("S1")).hasSize(2);
+            assertThat(college.getCourseEnrollments("C2")).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should not apply bulk enrollment with unknown course")
+        void shouldNotApplyBulkEnrollmentWithUnknownCourse() {
+            assertThatThrownBy(() -> college.enrollStudent("S1", List.of("C1", "C9")))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(college.getStudentEnrollments("S1")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should keep indexes consistent under concurrent enrollment")
+        void shouldKeepIndexesConsistentUnderConcurrentEnrollment() throws Exception {
+            int studentCount = 200;
+            for(int i = 0; i < studentCount; i++) {
+                college.registerStudent("P" + i, "Student " + i);
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for(int i = 0; i < studentCount; i++) {
+                String studentId = "P" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    college.enrollStudent(studentId, List.of("C1", "C2"));
+                    college.enrollStudent(studentId, List.of("C2"));
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for(Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(college.getCourseEnrollments("C1")).hasSize(studentCount);
+            assertThat(college.getCourseEnrollments("C2")).hasSize(studentCount);
+            assertThat(college.getStudentEnrollments("P0")).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Should show an enrollment in both indexes at once")
+        void shouldShowEnrollmentInBothIndexesAtOnce() throws Exception {
+            int studentCount = 200;
+            for(int i = 0; i < studentCount; i++) {
+                college.registerStudent("P" + i, "Student " + i);
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            Future<?> writer = executor.submit(() -> {
+                for(int i = 0; i < studentCount; i++) {
+                    college.enrollStudent("P" + i, "C1");
+                }
+            });
+            Future<Integer> reader = executor.submit(() -> {
+                int mismatches = 0;
+                while(!writer.isDone()) {
+                    for(int i = 0; i < studentCount; i += 7) {
+                        String studentId = "P" + i;
+                        boolean enrolled = college.isStudentEnrolled(studentId, "C1");
+                        boolean listed = college.getCourseEnrollments("C1").stream()
+                                .anyMatch(e -> e.getStudent().getStudentId().equals(studentId));
+                        if(enrolled && !listed) {
+                            mismatches++;
+                        }
+                    }
+                }
+                return mismatches;
+            });
+
+            writer.get();
+            assertThat(reader.get()).isZero();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Grade Tests")
+    class GradeTests {
+
+        @BeforeEach
+        void setUpGrades() {
+            college.registerStudent("S1", "Alice");
+            college.registerStudent("S2", "Bob");
+            college.createCourse("C1", "Algorithms");
+            college.createCourse("C2", "Databases");
+            college.enrollStudent("S1", "C1");
+            college.enrollStudent("S1", "C2");
+            college.enrollStudent("S2", "C1");
+        }
+
+        @Test
+        @DisplayName("Should assign and read grade")
+        void shouldAssignAndReadGrade() {
+            college.assignGrade("S1", "C1", 3.5);
+
+            assertThat(college.getGrade("S1", "C1")).isEqualTo(3.5);
+            assertThat(college.getEnrollment("S1", "C1").isGraded()).isTrue();
+            assertThat(college.getGrade("S1", "C2")).isNull();
+        }
+
+        @Test
+        @DisplayName("Should not assign invalid grade")
+        void shouldNotAssignInvalidGrade() {
+            assertThatThrownBy(() -> college.assignGrade("S1", "C1", 4.5))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> college.assignGrade("S1", "C1", -0.1))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should not assign grade without enrollment")
+        void shouldNotAssignGradeWithoutEnrollment() {
+            assertThatThrownBy(() -> college.assignGrade("S2", "C2", 3.0))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("Should assign grades in batch")
+        void shouldAssignGradesInBatch() {
+            college.assignGrades("C1", Map.of("S1", 4.0, "S2", 2.5));
+
+            assertThat(college.getGrade("S1", "C1")).isEqualTo(4.0);
+            assertThat(college.getGrade("S2", "C1")).isEqualTo(2.5);
+        }
+
+        @Test
+        @DisplayName("Should not apply grade batch with invalid entry")
+        void shouldNotApplyGradeBatchWithInvalidEntry() {
+            assertThatThrownBy(() -> college.assignGrades("C1", Map.of("S1", 4.0, "S2", 9.0)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+            assertThat(college.getGrade("S1", "C1")).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return graded courses for student")
+        void shouldReturnGradedCoursesForStudent() {
+            college.assignGrade("S1", "C1", 3.0);
+
+            assertThat(college.getStudentGrades("S1")).containsExactly(Map.entry("C1", 3.0));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.inventory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Every thread draws from the same hotSkus products, so hotSkus=1 is a single contended SKU
+// and larger values spread the same load across more CAS targets.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class InventoryBenchmark {
+
+    private static final int PRODUCTS = 100_000;
+    private static final int INITIAL_STOCK = 1_000_000;
+    private static final int REORDER_THRESHOLD = 1_000;
+    private static final int BATCH_SIZE = 16;
+
+    @Param({"1", "16", "100000"})
+    public int hotSkus;
+
+    private Inventory inventory;
+    private Inventory crossingInventory;
+    private String[] productIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inventory = new Inventory();
+        crossingInventory = new Inventory();
+        productIds = new String[PRODUCTS];
+
+        for(int i = 0; i < PRODUCTS; i++) {
+            productIds[i] = "SKU-" + i;
+            inventory.addProduct(productIds[i], "Product " + i, REORDER_THRESHOLD, INITIAL_STOCK);
+            crossingInventory.addProduct(productIds[i], "Product " + i, REORDER_THRESHOLD, REORDER_THRESHOLD);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+
+        private final SplittableRandom random = new SplittableRandom();
+        private final Map<String, Integer> restock = new HashMap<>();
+        private final Map<String, Integer> sell = new HashMap<>();
+        private boolean selling;
+        private String heldProduct;
+
+        @Setup(Level.Trial)
+        public void setUp(InventoryBenchmark benchmark) {
+            int size = Math.min(BATCH_SIZE, benchmark.hotSkus);
+            while(restock.size() < size) {
+                String productId = benchmark.productIds[random.nextInt(benchmark.hotSkus)];
+                restock.put(productId, 1);
+                sell.put(productId, -1);
+            }
+        }
+
+        private String nextProduct(InventoryBenchmark benchmark) {
+            return benchmark.productIds[random.nextInt(benchmark.hotSkus)];
+        }
+    }
+
+    @Benchmark
+    public int hotSkuUpdate(Worker worker) {
+        int delta = worker.random.nextBoolean() ? 1 : -1;
+        return inventory.updateStock(worker.nextProduct(this), delta);
+    }
+
+    // Stock starts at the threshold and each thread sells one unit then restocks the same product,
+    // so most updates cross the threshold and take the reorder-set path.
+    @Benchmark
+    public int thresholdCrossingUpdate(Worker worker) {
+        worker.selling = !worker.selling;
+        if(worker.selling) {
+            worker.heldProduct = worker.nextProduct(this);
+            return crossingInventory.updateStock(worker.heldProduct, -1);
+        }
+        return crossingInventory.updateStock(worker.heldProduct, 1);
+    }
+
+    @Benchmark
+    public Set<String> batchUpdate(Worker worker) {
+        worker.selling = !worker.selling;
+        return inventory.updateStock(worker.selling ? worker.sell : worker.restock);
+    }
+}
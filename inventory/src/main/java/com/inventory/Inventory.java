@@ -0,0 +1,124 @@
+package com.inventory;
+
+import com.inventory.exceptions.DuplicateProductException;
+import com.inventory.exceptions.InsufficientStockException;
+import com.inventory.exceptions.InvalidStockQuantityException;
+import com.inventory.exceptions.ProductNotFoundException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class Inventory {
+
+    private final Map<String, InventoryItem> items = new ConcurrentHashMap<>();
+    private final Set<String> productsToReorder = ConcurrentHashMap.newKeySet();
+
+    public void addProduct(String productId, String name, int reorderThreshold, int initialStock) {
+        InventoryItem item = new InventoryItem(new Product(productId, name, reorderThreshold), initialStock);
+
+        if(items.putIfAbsent(productId, item) != null) {
+            throw new DuplicateProductException("Product already exists: " + productId);
+        }
+
+        refreshReorderFlag(item);
+    }
+
+    public Product getProduct(String productId) {
+        return getItem(productId).getProduct();
+    }
+
+    public int getStock(String productId) {
+        return getItem(productId).getStock();
+    }
+
+    public boolean isAvailable(String productId) {
+        return getItem(productId).isAvailable();
+    }
+
+    public int updateStock(String productId, int delta) {
+        InventoryItem item = getItem(productId);
+        int previous = item.updateStock(delta);
+        int updated = previous + delta;
+
+        if(item.needsReorder(previous) != item.needsReorder(updated)) {
+            refreshReorderFlag(item);
+        }
+
+        return updated;
+    }
+
+    public Set<String> updateStock(Map<String, Integer> deltas) {
+        if(deltas == null) {
+            throw new IllegalArgumentException("Stock updates cannot be null.");
+        }
+
+        deltas.forEach((productId, delta) -> {
+            getItem(productId);
+            if(delta == null) {
+                throw new InvalidStockQuantityException("Stock update cannot be null for product " + productId);
+            }
+        });
+
+        Set<String> rejected = new HashSet<>();
+        deltas.forEach((productId, delta) -> {
+            try {
+                updateStock(productId, delta);
+            } catch (InsufficientStockException | InvalidStockQuantityException e) {
+                rejected.add(productId);
+            }
+        });
+        return rejected;
+    }
+
+    public Map<Product, Integer> getStockLevels() {
+        Map<Product, Integer> levels = new HashMap<>();
+        items.values().forEach(item -> levels.put(item.getProduct(), item.getStock()));
+        return levels;
+    }
+
+    public List<Product> getProductsToReorder() {
+        List<Product> products = new ArrayList<>(productsToReorder.size());
+        for(String productId : productsToReorder) {
+            InventoryItem item = items.get(productId);
+            if(item != null) {
+                products.add(item.getProduct());
+            }
+        }
+        return products;
+    }
+
+    public boolean needsReorder(String productId) {
+        getItem(productId);
+        return productsToReorder.contains(productId);
+    }
+
+    private InventoryItem getItem(String productId) {
+        if(productId == null || productId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Product id cannot be null.");
+        }
+
+        InventoryItem item = items.get(productId);
+        if(item == null) {
+            throw new ProductNotFoundException("Product not found: " + productId);
+        }
+        return item;
+    }
+
+    // Only updates that cross the threshold get here. Reading the live stock under the
+    // item lock means the last crossing update always leaves the flag matching the stock.
+    private void refreshReorderFlag(InventoryItem item) {
+        synchronized (item) {
+            String productId = item.getProduct().getProductId();
+            if(item.needsReorder()) {
+                productsToReorder.add(productId);
+            } else {
+                productsToReorder.remove(productId);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.inventory;
+
+import com.inventory.exceptions.InsufficientStockException;
+import com.inventory.exceptions.InvalidStockQuantityException;
+import com.inventory.validators.ProductValidator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InventoryItem {
+
+    private final Product product;
+    private final AtomicInteger stock;
+
+    public InventoryItem(Product product, int initialStock) {
+        if(product == null) {
+            throw new IllegalArgumentException("Product cannot be null.");
+        }
+        ProductValidator.validateInitialStock(initialStock);
+
+        this.product = product;
+        this.stock = new AtomicInteger(initialStock);
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public int getStock() {
+        return stock.get();
+    }
+
+    public boolean isAvailable() {
+        return stock.get() > 0;
+    }
+
+    public boolean needsReorder() {
+        return needsReorder(stock.get());
+    }
+
+    // Returns the stock before the update; the caller derives the new level from it.
+    public int updateStock(int delta) {
+        int current;
+        int updated;
+        do {
+            current = stock.get();
+            try {
+                updated = Math.addExact(current, delta);
+            } catch (ArithmeticException e) {
+                throw new InvalidStockQuantityException("Stock overflow for product " + product.getProductId());
+            }
+            if(updated < 0) {
+                throw new InsufficientStockException("Not enough stock for product " + product.getProductId());
+            }
+        } while(!stock.compareAndSet(current, updated));
+
+        return current;
+    }
+
+    boolean needsReorder(int level) {
+        return level <= product.getReorderThreshold();
+    }
+
+    @Override
+    public String toString() {
+        return "InventoryItem{" +
+                "product=" + product +
+                ", stock=" + stock.get() +
+                '}';
+    }
+}
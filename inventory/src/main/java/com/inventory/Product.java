@@ -0,0 +1,52 @@
+package com.inventory;
+
+import com.inventory.validators.ProductValidator;
+
+import java.util.Objects;
+
+public final class Product {
+
+    private final String productId;
+    private final String name;
+    private final int reorderThreshold;
+
+    public Product(String productId, String name, int reorderThreshold) {
+        this.productId = productId;
+        this.name = name;
+        this.reorderThreshold = reorderThreshold;
+        ProductValidator.selfValidate(this);
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getReorderThreshold() {
+        return reorderThreshold;
+    }
+
+    @Override
+    public String toString() {
+        return "Product{" +
+                "productId='" + productId + '\'' +
+                ", name='" + name + '\'' +
+                ", reorderThreshold=" + reorderThreshold +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Product product = (Product) o;
+        return Objects.equals(productId, product.productId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId);
+    }
+}
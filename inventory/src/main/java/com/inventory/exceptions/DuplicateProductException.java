@@ -0,0 +1,10 @@
+package com.inventory.exceptions;
+
+public class DuplicateProductException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DuplicateProductException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.inventory.exceptions;
+
+public class InsufficientStockException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.inventory.exceptions;
+
+public class InvalidStockQuantityException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidStockQuantityException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.inventory.exceptions;
+
+public class ProductNotFoundException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ProductNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,39 @@
+package com.inventory.validators;
+
+import com.inventory.Product;
+import com.inventory.exceptions.InvalidStockQuantityException;
+
+public abstract class ProductValidator {
+
+    private ProductValidator() {}
+
+    public static void selfValidate(Product product) {
+        validateProductId(product);
+        validateName(product);
+        validateReorderThreshold(product);
+    }
+
+    public static void validateProductId(Product product) {
+        if(product.getProductId() == null || product.getProductId().trim().isEmpty()) {
+            throw new IllegalArgumentException("Product id cannot be null.");
+        }
+    }
+
+    public static void validateName(Product product) {
+        if(product.getName() == null || product.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Product name cannot be null.");
+        }
+    }
+
+    public static void validateReorderThreshold(Product product) {
+        if(product.getReorderThreshold() < 0) {
+            throw new IllegalArgumentException("Reorder threshold cannot be negative.");
+        }
+    }
+
+    public static void validateInitialStock(int stock) {
+        if(stock < 0) {
+            throw new InvalidStockQuantityException("Stock cannot be negative.");
+        }
+    }
+}
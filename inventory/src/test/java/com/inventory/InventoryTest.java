@@ -0,0 +1,247 @@
+package com.inventory;
+
+import com.inventory.exceptions.DuplicateProductException;
+import com.inventory.exceptions.InsufficientStockException;
+import com.inventory.exceptions.InvalidStockQuantityException;
+import com.inventory.exceptions.ProductNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Inventory Management System Tests")
+class InventoryTest {
+
+    private Inventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        inventory = new Inventory();
+    }
+
+    @Nested
+    @DisplayName("Product Tests")
+    class ProductTests {
+
+        @Test
+        @DisplayName("Should add product successfully")
+        void shouldAddProductSuccessfully() {
+            inventory.addProduct("P1", "Keyboard", 5, 10);
+
+            Product product = inventory.getProduct("P1");
+            assertThat(product.getName()).isEqualTo("Keyboard");
+            assertThat(product.getReorderThreshold()).isEqualTo(5);
+            assertThat(inventory.getStock("P1")).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should not add duplicate product")
+        void shouldNotAddDuplicateProduct() {
+            inventory.addProduct("P1", "Keyboard", 5, 10);
+
+            assertThatThrownBy(() -> inventory.addProduct("P1", "Mouse", 5, 10))
+                .isInstanceOf(DuplicateProductException.class);
+            assertThat(inventory.getProduct("P1").getName()).isEqualTo("Keyboard");
+        }
+
+        @Test
+        @DisplayName("Should not add product with invalid data")
+        void shouldNotAddProductWithInvalidData() {
+            assertThatThrownBy(() -> inventory.addProduct(null, "Keyboard", 5, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> inventory.addProduct("P1", " ", 5, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> inventory.addProduct("P1", "Keyboard", -1, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> inventory.addProduct("P1", "Keyboard", 5, -10))
+                .isInstanceOf(InvalidStockQuantityException.class);
+        }
+
+        @Test
+        @DisplayName("Should compare products by id")
+        void shouldCompareProductsById() {
+            assertThat(new Product("P1", "Keyboard", 5)).isEqualTo(new Product("P1", "Other", 1));
+        }
+
+        @Test
+        @DisplayName("Should not find non-existent product")
+        void shouldNotFindNonExistentProduct() {
+            assertThatThrownBy(() -> inventory.getStock("P9"))
+                .isInstanceOf(ProductNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Stock Update Tests")
+    class StockUpdateTests {
+
+        @BeforeEach
+        void setUpProducts() {
+            inventory.addProduct("P1", "Keyboard", 5, 10);
+        }
+
+        @Test
+        @DisplayName("Should add and remove stock")
+        void shouldAddAndRemoveStock() {
+            assertThat(inventory.updateStock("P1", 5)).isEqualTo(15);
+            assertThat(inventory.updateStock("P1", -15)).isZero();
+            assertThat(inventory.isAvailable("P1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should not let stock go below zero")
+        void shouldNotLetStockGoBelowZero() {
+            assertThatThrownBy(() -> inventory.updateStock("P1", -11))
+                .isInstanceOf(InsufficientStockException.class);
+            assertThat(inventory.getStock("P1")).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should apply batch updates and report rejected products")
+        void shouldApplyBatchUpdates() {
+            inventory.addProduct("P2", "Mouse", 2, 3);
+
+            Map<String, Integer> deltas = new LinkedHashMap<>();
+            deltas.put("P1", -4);
+            deltas.put("P2", -5);
+
+            assertThat(inventory.updateStock(deltas)).containsExactly("P2");
+            assertThat(inventory.getStock("P1")).isEqualTo(6);
+            assertThat(inventory.getStock("P2")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should report overflow as invalid quantity")
+        void shouldReportOverflowAsInvalidQuantity() {
+            assertThatThrownBy(() -> inventory.updateStock("P1", Integer.MAX_VALUE))
+                .isInstanceOf(InvalidStockQuantityException.class);
+            assertThat(inventory.getStock("P1")).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should reject overflowing delta in batch and apply the rest")
+        void shouldRejectOverflowingDeltaInBatch() {
+            inventory.addProduct("P2", "Mouse", 2, 3);
+
+            Map<String, Integer> deltas = new LinkedHashMap<>();
+            deltas.put("P1", Integer.MAX_VALUE);
+            deltas.put("P2", 4);
+
+            assertThat(inventory.updateStock(deltas)).containsExactly("P1");
+            assertThat(inventory.getStock("P1")).isEqualTo(10);
+            assertThat(inventory.getStock("P2")).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("Should not apply batch with unknown product")
+        void shouldNotApplyBatchWithUnknownProduct() {
+            Map<String, Integer> deltas = new LinkedHashMap<>();
+            deltas.put("P1", -4);
+            deltas.put("P9", 1);
+
+            assertThatThrownBy(() -> inventory.updateStock(deltas))
+                .isInstanceOf(ProductNotFoundException.class);
+            assertThat(inventory.getStock("P1")).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should return defensive copy of stock levels")
+        void shouldReturnDefensiveCopyOfStockLevels() {
+            Map<Product, Integer> levels = inventory.getStockLevels();
+            levels.clear();
+
+            assertThat(inventory.getStockLevels()).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reorder Tests")
+    class ReorderTests {
+
+        @Test
+        @DisplayName("Should flag product when stock reaches threshold")
+        void shouldFlagProductWhenStockReachesThreshold() {
+            inventory.addProduct("P1", "Keyboard", 5, 10);
+            assertThat(inventory.getProductsToReorder()).isEmpty();
+
+            inventory.updateStock("P1", -5);
+
+            assertThat(inventory.needsReorder("P1")).isTrue();
+            assertThat(inventory.getProductsToReorder()).extracting(Product::getProductId).containsExactly("P1");
+        }
+
+        @Test
+        @DisplayName("Should flag product created below threshold")
+        void shouldFlagProductCreatedBelowThreshold() {
+            inventory.addProduct("P1", "Keyboard", 5, 2);
+
+            assertThat(inventory.needsReorder("P1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should clear flag when stock goes above threshold")
+        void shouldClearFlagWhenStockGoesAboveThreshold() {
+            inventory.addProduct("P1", "Keyboard", 5, 5);
+
+            inventory.updateStock("P1", 1);
+
+            assertThat(inventory.needsReorder("P1")).isFalse();
+            assertThat(inventory.getProductsToReorder()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should keep stock and reorder flag consistent under contention")
+        void shouldKeepStockConsistentUnderContention() throws Exception {
+            inventory.addProduct("HOT", "Hot SKU", 50, 100);
+
+            int threads = 8;
+            int updatesPerThread = 10_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+
+            for(int t = 0; t < threads; t++) {
+                int delta = t % 2 == 0 ? 1 : -1;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for(int i = 0; i < updatesPerThread; i++) {
+                        try {
+                            inventory.updateStock("HOT", delta);
+                        } catch (InsufficientStockException e) {
+                            inventory.updateStock("HOT", 1);
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for(Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            int stock = inventory.getStock("HOT");
+            assertThat(stock).isGreaterThanOrEqualTo(0);
+            assertThat(inventory.needsReorder("HOT")).isEqualTo(stock <= 50);
+        }
+    }
+}
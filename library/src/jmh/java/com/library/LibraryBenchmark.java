@@ -0,0 +1,123 @@
+package com.library;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// The first members * LOANS_PER_MEMBER books stay on loan for the whole run so getBorrowedBooks
+// has something to copy; the rest are split between threads so uncontended checkouts never collide.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LibraryBenchmark {
+
+    private static final int LOANS_PER_MEMBER = 5;
+    private static final int HOT_BOOKS = 64;
+
+    @Param({"1000000"})
+    public int books;
+
+    @Param({"100000"})
+    public int members;
+
+    private Library library;
+    private String[] isbns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        library = new Library();
+        isbns = new String[books];
+
+        for(int i = 0; i < books; i++) {
+            isbns[i] = "ISBN-" + i;
+            library.addBook(new Book(isbns[i], "Title " + i, "Author " + (i % 1_000)));
+        }
+        for(int id = 1; id <= members; id++) {
+            library.registerMember(new Member(id, "Member " + id));
+        }
+        for(int i = 0; i < members * LOANS_PER_MEMBER; i++) {
+            library.lendBook(isbns[i], i % members + 1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Borrower {
+
+        private final SplittableRandom random = new SplittableRandom();
+        private int firstBook;
+        private int ownBooks;
+
+        @Setup(Level.Trial)
+        public void setUp(LibraryBenchmark benchmark, ThreadParams threads) {
+            int onLoan = benchmark.members * LOANS_PER_MEMBER;
+            ownBooks = (benchmark.books - onLoan - HOT_BOOKS) / threads.getThreadCount();
+            firstBook = onLoan + HOT_BOOKS + threads.getThreadIndex() * ownBooks;
+        }
+
+        private int nextMember(LibraryBenchmark benchmark) {
+            return random.nextInt(benchmark.members) + 1;
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void checkoutAndReturn(Borrower borrower) {
+        String isbn = isbns[borrower.firstBook + borrower.random.nextInt(borrower.ownBooks)];
+        library.lendBook(isbn, borrower.nextMember(this));
+        library.returnBook(isbn);
+    }
+
+    // Every thread competes for the same few titles, so most attempts lose the race and are rejected.
+    @Benchmark
+    @Threads(8)
+    public boolean contendedCheckout(Borrower borrower) {
+        String isbn = isbns[members * LOANS_PER_MEMBER + borrower.random.nextInt(HOT_BOOKS)];
+        try {
+            library.lendBook(isbn, borrower.nextMember(this));
+        } catch (IllegalStateException e) {
+            return false;
+        }
+        library.returnBook(isbn);
+        return true;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<Book> borrowedBooks(Borrower borrower) {
+        return library.getBorrowedBooks(borrower.nextMember(this));
+    }
+
+    @Benchmark
+    @Group("peak")
+    @GroupThreads(6)
+    public void peakCheckout(Borrower borrower) {
+        checkoutAndReturn(borrower);
+    }
+
+    @Benchmark
+    @Group("peak")
+    @GroupThreads(2)
+    public List<Book> peakBorrowedBooks(Borrower borrower) {
+        return borrowedBooks(borrower);
+    }
+}
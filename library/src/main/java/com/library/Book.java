@@ -0,0 +1,62 @@
+package com.library;
+
+import com.library.validators.BookValidator;
+
+import java.util.Objects;
+
+public class Book {
+
+    private final String isbn;
+    private final String title;
+    private final String author;
+    private volatile boolean borrowed;
+
+    public Book(String isbn, String title, String author) {
+        this.isbn = isbn;
+        this.title = title;
+        this.author = author;
+        BookValidator.selfValidate(this);
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public boolean isBorrowed() {
+        return borrowed;
+    }
+
+    void setBorrowed(boolean borrowed) {
+        this.borrowed = borrowed;
+    }
+
+    @Override
+    public String toString() {
+        return "Book{" +
+                "isbn='" + isbn + '\'' +
+                ", title='" + title + '\'' +
+                ", author='" + author + '\'' +
+                ", borrowed=" + borrowed +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Book book = (Book) o;
+        return Objects.equals(isbn, book.isbn);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isbn);
+    }
+}
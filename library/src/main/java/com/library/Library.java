@@ -0,0 +1,128 @@
+package com.library;
+
+import com.library.validators.BookValidator;
+import com.library.validators.MemberValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class Library {
+
+    private final Map<String, Book> books = new ConcurrentHashMap<>();
+    private final Map<Integer, Member> members = new ConcurrentHashMap<>();
+    private final Map<String, Member> borrowings = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<String>> loansByMember = new ConcurrentHashMap<>();
+
+    public void addBook(Book book) {
+        if(book == null) {
+            throw new IllegalArgumentException("Book cannot be null.");
+        }
+
+        if(books.putIfAbsent(book.getIsbn(), book) != null) {
+            throw new IllegalStateException("Book already exists: " + book.getIsbn());
+        }
+    }
+
+    public Book getBook(String isbn) {
+        if(isbn == null) {
+            return null;
+        }
+        return books.get(isbn);
+    }
+
+    public List<Book> getAllBooks() {
+        return new ArrayList<>(books.values());
+    }
+
+    public void registerMember(Member member) {
+        if(member == null) {
+            throw new IllegalArgumentException("Member cannot be null.");
+        }
+
+        loansByMember.putIfAbsent(member.getId(), ConcurrentHashMap.newKeySet());
+        if(members.putIfAbsent(member.getId(), member) != null) {
+            throw new IllegalStateException("Member already exists: " + member.getId());
+        }
+    }
+
+    public Member getMember(int memberId) {
+        return members.get(memberId);
+    }
+
+    public List<Member> getAllMembers() {
+        return new ArrayList<>(members.values());
+    }
+
+    public void lendBook(String isbn, int memberId) {
+        Book book = getExistingBook(isbn);
+        Member member = getExistingMember(memberId);
+
+        borrowings.compute(isbn, (key, current) -> {
+            if(current != null) {
+                throw new IllegalStateException("Book is already borrowed: " + isbn);
+            }
+
+            loansByMember.get(memberId).add(isbn);
+            book.setBorrowed(true);
+            return member;
+        });
+    }
+
+    public void returnBook(String isbn) {
+        Book book = getExistingBook(isbn);
+
+        borrowings.compute(isbn, (key, current) -> {
+            if(current == null) {
+                throw new IllegalStateException("Book is not borrowed: " + isbn);
+            }
+
+            loansByMember.get(current.getId()).remove(isbn);
+            book.setBorrowed(false);
+            return null;
+        });
+    }
+
+    public boolean isBookAvailable(String isbn) {
+        Book book = getBook(isbn);
+        return book != null && !book.isBorrowed();
+    }
+
+    public Member getBorrower(String isbn) {
+        getExistingBook(isbn);
+        return borrowings.get(isbn);
+    }
+
+    public List<Book> getBorrowedBooks(int memberId) {
+        getExistingMember(memberId);
+
+        Set<String> loans = loansByMember.get(memberId);
+        List<Book> borrowed = new ArrayList<>(loans.size());
+        for(String isbn : loans) {
+            borrowed.add(books.get(isbn));
+        }
+        return borrowed;
+    }
+
+    private Book getExistingBook(String isbn) {
+        BookValidator.validateIsbn(isbn);
+
+        Book book = books.get(isbn);
+        if(book == null) {
+            throw new IllegalArgumentException("Book do not exists: " + isbn);
+        }
+        return book;
+    }
+
+    private Member getExistingMember(int memberId) {
+        MemberValidator.validateId(memberId);
+
+        Member member = members.get(memberId);
+        if(member == null) {
+            throw new IllegalArgumentException("Member do not exists: " + memberId);
+        }
+        return member;
+    }
+}
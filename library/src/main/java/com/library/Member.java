@@ -0,0 +1,45 @@
+package com.library;
+
+import com.library.validators.MemberValidator;
+
+import java.util.Objects;
+
+public final class Member {
+
+    private final int id;
+    private final String name;
+
+    public Member(int id, String name) {
+        this.id = id;
+        this.name = name;
+        MemberValidator.selfValidate(this);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "Member{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Member member = (Member) o;
+        return id == member.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
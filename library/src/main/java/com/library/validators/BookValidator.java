@@ -0,0 +1,24 @@
+package com.library.validators;
+
+import com.library.Book;
+
+public abstract class BookValidator {
+
+    private BookValidator() {}
+
+    public static void selfValidate(Book book) {
+        validateIsbn(book.getIsbn());
+        validateText(book.getTitle(), "Book title cannot be null.");
+        validateText(book.getAuthor(), "Book author cannot be null.");
+    }
+
+    public static void validateIsbn(String isbn) {
+        validateText(isbn, "Book ISBN cannot be null.");
+    }
+
+    private static void validateText(String value, String message) {
+        if(value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
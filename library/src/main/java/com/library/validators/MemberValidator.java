@@ -0,0 +1,25 @@
+package com.library.validators;
+
+import com.library.Member;
+
+public abstract class MemberValidator {
+
+    private MemberValidator() {}
+
+    public static void selfValidate(Member member) {
+        validateId(member.getId());
+        validateName(member);
+    }
+
+    public static void validateId(int id) {
+        if(id <= 0) {
+            throw new IllegalArgumentException("Member id must be positive.");
+        }
+    }
+
+    private static void validateName(Member member) {
+        if(member.getName() == null || member.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("Member name cannot be null.");
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.library;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Library Management System Tests")
+class LibraryTest {
+
+    private Library library;
+
+    private Book cleanCode;
+    private Book refactoring;
+    private Member alice;
+    private Member bob;
+
+    @BeforeEach
+    void setUp() {
+        library = new Library();
+
+        cleanCode = new Book("978-0132350884", "Clean Code", "Robert C. Martin");
+        refactoring = new Book("978-0134757599", "Refactoring", "Martin Fowler");
+        alice = new Member(1, "Alice");
+        bob = new Member(2, "Bob");
+    }
+
+    @Nested
+    @DisplayName("Book Management Tests")
+    class BookManagementTests {
+
+        @Test
+        @DisplayName("Should add and retrieve book")
+        void shouldAddAndRetrieveBook() {
+            library.addBook(cleanCode);
+
+            assertThat(library.getBook(cleanCode.getIsbn())).isSameAs(cleanCode);
+            assertThat(library.isBookAvailable(cleanCode.getIsbn())).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should not add duplicate book")
+        void shouldNotAddDuplicateBook() {
+            library.addBook(cleanCode);
+
+            assertThatThrownBy(() -> library.addBook(new Book(cleanCode.getIsbn(), "Other", "Other")))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(library.getBook(cleanCode.getIsbn()).getTitle()).isEqualTo("Clean Code");
+        }
+
+        @Test
+        @DisplayName("Should not add invalid book")
+        void shouldNotAddInvalidBook() {
+            assertThatThrownBy(() -> library.addBook(null))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new Book(" ", "Title", "Author"))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new Book("isbn", null, "Author"))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new Book("isbn", "Title", ""))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should return null for non-existent book")
+        void shouldReturnNullForNonExistentBook() {
+            assertThat(library.getBook("unknown")).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return defensive copy of books")
+        void shouldReturnDefensiveCopyOfBooks() {
+            library.addBook(cleanCode);
+
+            library.getAllBooks().clear();
+
+            assertThat(library.getAllBooks()).containsExactly(cleanCode);
+        }
+    }
+
+    @Nested
+    @DisplayName("Member Management Tests")
+    class MemberManagementTests {
+
+        @Test
+        @DisplayName("Should register and retrieve member")
+        void shouldRegisterAndRetrieveMember() {
+            library.registerMember(alice);
+
+            assertThat(library.getMember(1)).isSameAs(alice);
+        }
+
+        @Test
+        @DisplayName("Should not register duplicate member")
+        void shouldNotRegisterDuplicateMember() {
+            library.registerMember(alice);
+
+            assertThatThrownBy(() -> library.registerMember(new Member(1, "Other")))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(library.getMember(1).getName()).isEqualTo("Alice");
+        }
+
+        @Test
+        @DisplayName("Should not register invalid member")
+        void shouldNotRegisterInvalidMember() {
+            assertThatThrownBy(() -> library.registerMember(null))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new Member(0, "Alice"))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new Member(3, " "))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should return null for non-existent member")
+        void shouldReturnNullForNonExistentMember() {
+            assertThat(library.getMember(99)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lending Tests")
+    class LendingTests {
+
+        @BeforeEach
+        void setUpLending() {
+            library.addBook(cleanCode);
+            library.addBook(refactoring);
+            library.registerMember(alice);
+            library.registerMember(bob);
+        }
+
+        @Test
+        @DisplayName("Should lend book to member")
+        void shouldLendBookToMember() {
+            library.lendBook(cleanCode.getIsbn(), alice.getId());
+
+            assertThat(library.isBookAvailable(cleanCode.getIsbn())).isFalse();
+            assertThat(library.getBorrower(cleanCode.getIsbn())).isEqualTo(alice);
+            assertThat(library.getBorrowedBooks(alice.getId())).containsExactly(cleanCode);
+        }
+
+        @Test
+        @DisplayName("Should track several books for one member")
+        void shouldTrackSeveralBooksForOneMember() {
+            library.lendBook(cleanCode.getIsbn(), alice.getId());
+            library.lendBook(refactoring.getIsbn(), alice.getId());
+
+            assertThat(library.getBorrowedBooks(alice.getId())).containsExactlyInAnyOrder(cleanCode, refactoring);
+        }
+
+        @Test
+        @DisplayName("Should not lend borrowed book")
+        void shouldNotLendBorrowedBook() {
+            library.lendBook(cleanCode.getIsbn(), alice.getId());
+
+            assertThatThrownBy(() -> library.lendBook(cleanCode.getIsbn(), bob.getId()))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(library.getBorrower(cleanCode.getIsbn())).isEqualTo(alice);
+            assertThat(library.getBorrowedBooks(bob.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should not lend non-existent book or to non-existent member")
+        void shouldNotLendNonExistent() {
+            assertThatThrownBy(() -> library.lendBook("unknown", alice.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> library.lendBook(cleanCode.getIsbn(), 99))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThat(library.isBookAvailable(cleanCode.getIsbn())).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should return borrowed book")
+        void shouldReturnBorrowedBook() {
+            library.lendBook(cleanCode.getIsbn(), alice.getId());
+
+            library.returnBook(cleanCode.getIsbn());
+
+            assertThat(library.isBookAvailable(cleanCode.getIsbn())).isTrue();
+            assertThat(library.getBorrower(cleanCode.getIsbn())).isNull();
+            assertThat(library.getBorrowedBooks(alice.getId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should not return book that is not borrowed")
+        void shouldNotReturnBookThatIsNotBorrowed() {
+            assertThatThrownBy(() -> library.returnBook(cleanCode.getIsbn()))
+                .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> library.returnBook("unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should report availability of non-existent book as false")
+        void shouldReportAvailabilityOfNonExistentBookAsFalse() {
+            assertThat(library.isBookAvailable("unknown")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should not get borrowed books for non-existent member")
+        void shouldNotGetBorrowedBooksForNonExistentMember() {
+            assertThatThrownBy(() -> library.getBorrowedBooks(99))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should return defensive copy of borrowed books")
+        void shouldReturnDefensiveCopyOfBorrowedBooks() {
+            library.lendBook(cleanCode.getIsbn(), alice.getId());
+
+            library.getBorrowedBooks(alice.getId()).clear();
+
+            assertThat(library.getBorrowedBooks(alice.getId())).containsExactly(cleanCode);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should lend a copy to only one of many concurrent members")
+        void shouldLendCopyToOnlyOneMember() throws Exception {
+            library.addBook(cleanCode);
+            int threads = 16;
+            for(int id = 1; id <= threads; id++) {
+                library.registerMember(new Member(id, "Member " + id));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger successes = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+
+            for(int id = 1; id <= threads; id++) {
+                int memberId = id;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        library.lendBook(cleanCode.getIsbn(), memberId);
+                        successes.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // another member got the copy first
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for(Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            Member borrower = library.getBorrower(cleanCode.getIsbn());
+            assertThat(successes.get()).isEqualTo(1);
+            assertThat(library.getBorrowedBooks(borrower.getId())).containsExactly(cleanCode);
+        }
+    }
+}